@@ -41,6 +41,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import dev.openclosed.squall.api.text.Problem;
 import dev.openclosed.squall.api.parser.ParserConfig;
 import dev.openclosed.squall.api.renderer.ColumnAttribute;
+import dev.openclosed.squall.api.renderer.DocumentSplit;
 import dev.openclosed.squall.api.renderer.RenderConfig;
 import dev.openclosed.squall.api.sql.spec.Component;
 import dev.openclosed.squall.api.sql.spec.ComponentOrder;
@@ -100,7 +101,8 @@ public final class DefaultConfigLoaderTest {
                 "sequenceAttributes": ["type_name", "start"],
                 "pageSize" : "a4",
                 "pageOrientation": "portrait",
-                "pageMargin": ["5mm", "10mm", "15mm", "20mm"]
+                "pageMargin": ["5mm", "10mm", "15mm", "20mm"],
+                "split": "schema"
             }
             """;
 
@@ -115,7 +117,9 @@ public final class DefaultConfigLoaderTest {
             List.of(SequenceAttribute.TYPE_NAME, SequenceAttribute.START),
             "a4",
             PageOrientation.PORTRAIT,
-            List.of("5mm", "10mm", "15mm", "20mm")
+            List.of("5mm", "10mm", "15mm", "20mm"),
+            false,
+            DocumentSplit.SCHEMA
         );
 
         var actual = sut.loadRenderConfigFromJson(text);
@@ -195,7 +199,9 @@ public final class DefaultConfigLoaderTest {
                 List.of(SequenceAttribute.TYPE_NAME, SequenceAttribute.START),
                 "a4",
                 PageOrientation.PORTRAIT,
-                List.of("5mm", "10mm", "15mm", "20mm")
+                List.of("5mm", "10mm", "15mm", "20mm"),
+                false,
+                DocumentSplit.NONE
             ))
         );
 
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.openclosed.squall.api.test.sql.snapshot;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import dev.openclosed.squall.api.sql.annotation.Deprecated;
+import dev.openclosed.squall.api.sql.annotation.Description;
+import dev.openclosed.squall.api.sql.annotation.Label;
+import dev.openclosed.squall.api.sql.datatype.IntegerDataType;
+import dev.openclosed.squall.api.sql.datatype.StandardDataType;
+import dev.openclosed.squall.api.sql.expression.ObjectRef;
+import dev.openclosed.squall.api.sql.expression.SequenceFunctionCall;
+import dev.openclosed.squall.api.sql.expression.StringLiteral;
+import dev.openclosed.squall.api.sql.expression.Typecast;
+import dev.openclosed.squall.api.sql.snapshot.SnapshotFormatException;
+import dev.openclosed.squall.api.sql.snapshot.SpecRecording;
+import dev.openclosed.squall.api.sql.snapshot.SpecSnapshot;
+import dev.openclosed.squall.api.sql.spec.DatabaseSpec;
+import org.junit.jupiter.api.Test;
+
+public final class SpecRecordingTest {
+
+    private static void build(DatabaseSpec.Builder builder) {
+        builder.setTitle("Recording")
+            .setAuthor(null)
+            .addDatabase("shop", List.of(new Description("Shop")))
+            .addSchema("sales", List.of())
+            .addSequence("sales", "order_id_seq", List.of())
+            .addSequenceDataType(IntegerDataType.BIGINT)
+            .addSequenceStart(-1)
+            .addTable("sales", "products", List.of(new Label("Products")))
+            .addTableColumn("id", IntegerDataType.INTEGER, List.of())
+            .addTablePrimaryKey(null, List.of("id"))
+            .addTableColumn("name", StandardDataType.VARCHAR.withLength(64), List.of(new Deprecated("")))
+            .addColumnNullable(false)
+            .addColumnDefaultValue(Typecast.of(StringLiteral.of("unknown"), StandardDataType.VARCHAR))
+            .addTable("sales", "orders", List.of())
+            .addTableColumn("id", IntegerDataType.BIGINT, List.of())
+            .addColumnDefaultValue(SequenceFunctionCall.of(
+                "nextval", List.of(StringLiteral.of("order_id_seq")), new ObjectRef("", "sales", "order_id_seq")))
+            .addTableColumn("product_id", IntegerDataType.INTEGER, List.of())
+            .addTableColumn("price", StandardDataType.NUMERIC.withPrecision(10, 2), List.of())
+            .alterTable("sales", "orders")
+            .addTableForeignKey("fk", new ObjectRef("", "sales", "products"), List.of("product_id"), List.of("id"))
+            .addTableUniqueConstraint(null, List.of("product_id", "price"));
+    }
+
+    private static DatabaseSpec expectedSpec() {
+        var builder = DatabaseSpec.builder();
+        build(builder);
+        return builder.build();
+    }
+
+    @Test
+    public void shouldReplayRecordedCalls() {
+        var recording = new SpecRecording();
+        build(recording);
+
+        var builder = DatabaseSpec.builder();
+        recording.replay(builder);
+        assertThat(builder.build()).isEqualTo(expectedSpec());
+    }
+
+    @Test
+    public void shouldRestoreRecordingFromBytes() throws SnapshotFormatException {
+        var recording = new SpecRecording();
+        build(recording);
+
+        var restored = SpecRecording.fromBytes(recording.toBytes());
+        assertThat(restored.toBytes()).isEqualTo(recording.toBytes());
+        var builder = DatabaseSpec.builder();
+        restored.replay(builder);
+        assertThat(builder.build()).isEqualTo(expectedSpec());
+    }
+
+    @Test
+    public void shouldRejectSnapshot() {
+        byte[] bytes = SpecSnapshot.toBytes(expectedSpec());
+        assertThatThrownBy(() -> SpecRecording.fromBytes(bytes))
+            .isInstanceOf(SnapshotFormatException.class);
+    }
+
+    @Test
+    public void shouldRejectTruncatedRecording() {
+        var recording = new SpecRecording();
+        build(recording);
+        byte[] bytes = recording.toBytes();
+        assertThatThrownBy(() -> SpecRecording.fromBytes(Arrays.copyOf(bytes, bytes.length - 1)))
+            .isInstanceOf(SnapshotFormatException.class);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.openclosed.squall.api.test.sql.snapshot;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import dev.openclosed.squall.api.sql.annotation.Deprecated;
+import dev.openclosed.squall.api.sql.annotation.Description;
+import dev.openclosed.squall.api.sql.annotation.Label;
+import dev.openclosed.squall.api.sql.datatype.IntegerDataType;
+import dev.openclosed.squall.api.sql.datatype.StandardDataType;
+import dev.openclosed.squall.api.sql.expression.BinaryOperator;
+import dev.openclosed.squall.api.sql.expression.Case;
+import dev.openclosed.squall.api.sql.expression.ColumnReference;
+import dev.openclosed.squall.api.sql.expression.Expression;
+import dev.openclosed.squall.api.sql.expression.NumberLiteral;
+import dev.openclosed.squall.api.sql.expression.ObjectRef;
+import dev.openclosed.squall.api.sql.expression.SequenceFunctionCall;
+import dev.openclosed.squall.api.sql.expression.StringLiteral;
+import dev.openclosed.squall.api.sql.expression.Typecast;
+import dev.openclosed.squall.api.sql.snapshot.SnapshotFormatException;
+import dev.openclosed.squall.api.sql.snapshot.SpecSnapshot;
+import dev.openclosed.squall.api.sql.spec.DatabaseSpec;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public final class SpecSnapshotTest {
+
+    private static DatabaseSpec spec;
+
+    @BeforeAll
+    public static void setUpOnce() {
+        spec = DatabaseSpec.builder()
+            .setTitle("Snapshot")
+            .setVersion("1.0")
+            .addSchema("sales", List.of(new Description("Sales data")))
+            .addSequence("sales", "order_id_seq", List.of())
+            .addSequenceDataType(IntegerDataType.BIGINT)
+            .addSequenceStart(-1)
+            .addTable("sales", "products", List.of(new Label("Products")))
+            .addTableColumn("id", IntegerDataType.INTEGER, List.of())
+            .addTablePrimaryKey("products_pk", List.of("id"))
+            .addTableColumn("name", StandardDataType.VARCHAR.withLength(64), List.of(new Deprecated("")))
+            .addColumnNullable(false)
+            .addColumnDefaultValue(StringLiteral.of("unknown"))
+            .addTable("sales", "orders", List.of())
+            .addTableColumn("id", IntegerDataType.BIGINT, List.of())
+            .addColumnDefaultValue(SequenceFunctionCall.of(
+                "nextval", List.of(StringLiteral.of("order_id_seq")), new ObjectRef("", "sales", "order_id_seq")))
+            .addTableColumn("product_id", IntegerDataType.INTEGER, List.of())
+            .addTableColumn("price", StandardDataType.NUMERIC.withPrecision(10, 2), List.of())
+            .addColumnDefaultValue(new Case(
+                null,
+                List.of(new Case.When(
+                    new BinaryOperator(">", new ColumnReference("product_id"), new NumberLiteral("0")),
+                    Typecast.of(new NumberLiteral("1"), StandardDataType.NUMERIC))),
+                Expression.NULL))
+            .addTableForeignKey(null, new ObjectRef("", "sales", "products"), List.of("product_id"), List.of("id"))
+            .addTableUniqueConstraint(null, List.of("product_id", "price"))
+            .build();
+    }
+
+    @Test
+    public void shouldRestoreSameSpec() throws SnapshotFormatException {
+        var restored = SpecSnapshot.fromBytes(SpecSnapshot.toBytes(spec));
+        assertThat(restored).isEqualTo(spec);
+    }
+
+    @Test
+    public void shouldRestoreEmptySpec() throws SnapshotFormatException {
+        var empty = DatabaseSpec.builder().build();
+        assertThat(SpecSnapshot.fromBytes(SpecSnapshot.toBytes(empty))).isEqualTo(empty);
+    }
+
+    @Test
+    public void shouldShareStringsAndNames() throws SnapshotFormatException {
+        var restored = SpecSnapshot.fromBytes(SpecSnapshot.toBytes(spec));
+        var columns = restored.findTable(".sales.orders").get().columns();
+        assertThat(columns.get(0).parents()).isSameAs(columns.get(1).parents());
+        // "bigint"
+        assertThat(columns.get(0).typeName())
+            .isSameAs(restored.findSequence(".sales.order_id_seq").get().typeName());
+    }
+
+    @Test
+    public void shouldRejectOtherVersion() {
+        byte[] bytes = SpecSnapshot.toBytes(spec);
+        bytes[4] = SpecSnapshot.VERSION + 1;
+        assertThatThrownBy(() -> SpecSnapshot.fromBytes(bytes))
+            .isInstanceOf(SnapshotFormatException.class)
+            .hasMessageContaining("version");
+    }
+
+    @Test
+    public void shouldRejectOtherFormat() {
+        byte[] bytes = "{}".getBytes(StandardCharsets.UTF_8);
+        assertThatThrownBy(() -> SpecSnapshot.fromBytes(bytes))
+            .isInstanceOf(SnapshotFormatException.class);
+    }
+
+    @Test
+    public void shouldRejectTruncatedSnapshot() {
+        byte[] bytes = SpecSnapshot.toBytes(spec);
+        assertThatThrownBy(() -> SpecSnapshot.fromBytes(Arrays.copyOf(bytes, bytes.length - 1)))
+            .isInstanceOf(SnapshotFormatException.class);
+    }
+}
@@ -18,7 +18,17 @@ package dev.openclosed.squall.api.test.sql.spec;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.List;
+
+import dev.openclosed.squall.api.sql.annotation.Deprecated;
+import dev.openclosed.squall.api.sql.annotation.Description;
+import dev.openclosed.squall.api.sql.annotation.DocAnnotation;
+import dev.openclosed.squall.api.sql.annotation.Label;
+import dev.openclosed.squall.api.sql.annotation.Since;
+import dev.openclosed.squall.api.sql.datatype.IntegerDataType;
+import dev.openclosed.squall.api.sql.expression.ObjectRef;
 import dev.openclosed.squall.api.sql.spec.DatabaseSpec;
+import dev.openclosed.squall.api.sql.spec.Table;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -36,4 +46,66 @@ public final class DatabaseSpecBuilderTest {
         var spec = sut.build();
         assertThat(spec.databases()).isEmpty();
     }
+
+    @Test
+    public void shouldFindFirstAnnotationOfEachClass() {
+        var table = buildTable(List.of(
+            new Description("first"),
+            new Label("table"),
+            new Description("second")
+        ));
+
+        assertThat(table.label()).hasValue("table");
+        assertThat(table.description()).hasValue("first");
+        assertThat(table.getFirstAnnotationOf(Description.class)).hasValue(new Description("first"));
+        assertThat(table.getFirstAnnotationOf(Since.class)).isEmpty();
+        assertThat(table.isDeprecated()).isFalse();
+        assertThat(table.annotations()).containsExactly(
+            new Description("first"), new Label("table"), new Description("second"));
+    }
+
+    @Test
+    public void shouldFindAnnotationByInterface() {
+        var table = buildTable(List.of(new Deprecated("obsolete"), new Label("table")));
+
+        assertThat(table.isDeprecated()).isTrue();
+        assertThat(table.getFirstAnnotationOf(Deprecated.class)).hasValue(new Deprecated("obsolete"));
+        @SuppressWarnings("unchecked")
+        Class<DocAnnotation<?>> any = (Class<DocAnnotation<?>>) (Class<?>) DocAnnotation.class;
+        assertThat(table.getFirstAnnotationOf(any)).hasValue(new Deprecated("obsolete"));
+    }
+
+    @Test
+    public void shouldNotFindAnyAnnotationInEmptyList() {
+        var table = buildTable(List.of());
+
+        assertThat(table.label()).isEmpty();
+        assertThat(table.description()).isEmpty();
+        assertThat(table.isDeprecated()).isFalse();
+        assertThat(table.annotations()).isEqualTo(List.of());
+    }
+
+    @Test
+    public void shouldGroupForeignKeysByColumn() {
+        var spec = sut.addTable("public", "t", List.of())
+            .addTableColumn("a", IntegerDataType.INTEGER, List.of())
+            .addTableColumn("b", IntegerDataType.INTEGER, List.of())
+            .addTableColumn("c", IntegerDataType.INTEGER, List.of())
+            .addTableForeignKey("fk1", new ObjectRef("", "public", "t1"), List.of("a", "b"), List.of("x", "y"))
+            .addTableForeignKey("fk2", new ObjectRef("", "public", "t2"), List.of("a"), List.of("z"))
+            .build();
+        var table = spec.databases().get(0).schemas().get(0).tables().get(0);
+
+        var byColumn = table.foreignKeysByColumn();
+        assertThat(byColumn).containsOnlyKeys("a", "b");
+        assertThat(byColumn.get("a")).extracting(fk -> fk.constraintName().get()).containsExactly("fk1", "fk2");
+        assertThat(byColumn.get("b")).extracting(fk -> fk.constraintName().get()).containsExactly("fk1");
+        assertThat(table.foreignKeysContaining("c")).isEmpty();
+        assertThat(table.foreignKeysContaining("a")).hasSize(2);
+    }
+
+    private Table buildTable(List<DocAnnotation<?>> annotations) {
+        var spec = sut.addTable("public", "t", annotations).build();
+        return spec.databases().get(0).schemas().get(0).tables().get(0);
+    }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.openclosed.squall.api.test.sql.spec;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import dev.openclosed.squall.api.sql.datatype.IntegerDataType;
+import dev.openclosed.squall.api.sql.expression.ObjectRef;
+import dev.openclosed.squall.api.sql.spec.Column;
+import dev.openclosed.squall.api.sql.spec.Component;
+import dev.openclosed.squall.api.sql.spec.ComponentOrder;
+import dev.openclosed.squall.api.sql.spec.DatabaseSpec;
+import dev.openclosed.squall.api.sql.spec.ForeignKeyReference;
+import dev.openclosed.squall.api.sql.spec.Sequence;
+import dev.openclosed.squall.api.sql.spec.Table;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public final class DatabaseSpecTest {
+
+    private static DatabaseSpec spec;
+
+    @BeforeAll
+    public static void setUpOnce() {
+        spec = DatabaseSpec.builder()
+            .addSequence("public", "s", List.of())
+            .addTable("public", "products", List.of())
+            .addTableColumn("id", IntegerDataType.INTEGER, List.of())
+            .addTablePrimaryKey(null, List.of("id"))
+            .addTable("public", "orders", List.of())
+            .addTableColumn("id", IntegerDataType.INTEGER, List.of())
+            .addTableColumn("product_id", IntegerDataType.INTEGER, List.of())
+            .addTableForeignKey(null, new ObjectRef("", "public", "products"), List.of("product_id"), List.of("id"))
+            .addTable("sales", "returns", List.of())
+            .addTableColumn("product_id", IntegerDataType.INTEGER, List.of())
+            .addTableForeignKey(null, new ObjectRef("", "public", "products"), List.of("product_id"), List.of("id"))
+            .build();
+    }
+
+    @Test
+    public void shouldFindTables() {
+        assertThat(spec.findTable(".public.orders")).map(Table::name).hasValue("orders");
+        assertThat(spec.findTable(new ObjectRef("", "sales", "returns"))).map(Table::name).hasValue("returns");
+        assertThat(spec.findTable(".sales.orders")).isEmpty();
+    }
+
+    @Test
+    public void shouldFindSequences() {
+        assertThat(spec.findSequence(".public.s")).map(Sequence::name).hasValue("s");
+        assertThat(spec.findSequence(new ObjectRef("", "public", "products"))).isEmpty();
+    }
+
+    @Test
+    public void shouldFindColumns() {
+        assertThat(spec.findColumn(".public.orders.product_id")).map(Column::fullName)
+            .hasValue(".public.orders.product_id");
+        assertThat(spec.findColumn(new ObjectRef("", "public", "products"), "id")).map(Column::isPrimaryKey)
+            .hasValue(true);
+        assertThat(spec.findColumn(".public.products.name")).isEmpty();
+    }
+
+    @Test
+    public void shouldResolveReferencedTable() {
+        var orders = spec.findTable(".public.orders").get();
+        var foreignKey = orders.foreignKeys().get(0);
+        assertThat(spec.findReferencedTable(foreignKey)).map(Table::fullName).hasValue(".public.products");
+    }
+
+    @Test
+    public void shouldFindForeignKeysReferencingTable() {
+        var products = spec.findTable(".public.products").get();
+        assertThat(spec.foreignKeysReferencing(products))
+            .extracting(ForeignKeyReference::table)
+            .extracting(Table::fullName)
+            .containsExactly(".public.orders", ".sales.returns");
+
+        var orders = spec.findTable(".public.orders").get();
+        assertThat(spec.foreignKeysReferencing(orders)).isEmpty();
+    }
+
+    @Test
+    public void shouldSortChildrenOnlyOnce() {
+        var schema = spec.presort(ComponentOrder.NAME).databases().get(0).schemas().get(0);
+        var sorted = ComponentOrder.NAME.reorder(schema.tables());
+
+        assertThat(sorted).extracting(Table::name).containsExactly("orders", "products");
+        assertThat(ComponentOrder.NAME.reorder(schema.tables())).isSameAs(sorted);
+        assertThat(ComponentOrder.DEFINITION.reorder(schema.tables())).isSameAs(schema.tables());
+        assertThat(schema.children(ComponentOrder.NAME)).extracting(Component::name)
+            .containsExactly("s", "orders", "products");
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.openclosed.squall.api.test.text;
+
+import dev.openclosed.squall.api.text.CodeFragmentFinder;
+import dev.openclosed.squall.api.text.LineIndex;
+import dev.openclosed.squall.api.text.Location;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LineIndexTest {
+
+    private static final String TEXT = "CREATE TABLE t (\n\tc integer\n);\n";
+
+    @Test
+    public void indexShouldHaveAllLines() {
+        var index = LineIndex.of(TEXT);
+        assertThat(index.lineCount()).isEqualTo(4);
+        assertThat(index.line(1)).isEqualTo("CREATE TABLE t (");
+        assertThat(index.line(2)).isEqualTo("\tc integer");
+        assertThat(index.line(3)).isEqualTo(");");
+        assertThat(index.line(4)).isEmpty();
+    }
+
+    @Test
+    public void offsetShouldBeConvertedToLocation() {
+        var index = LineIndex.of(TEXT);
+        assertThat(index.locationAt(0)).isEqualTo(new Location(1, 1, 0));
+        assertThat(index.locationAt(16)).isEqualTo(new Location(1, 17, 16));
+        assertThat(index.locationAt(17)).isEqualTo(new Location(2, 1, 17));
+        assertThat(index.locationAt(19)).isEqualTo(new Location(2, 3, 19));
+        assertThat(index.locationAt(TEXT.length())).isEqualTo(new Location(4, 1, TEXT.length()));
+    }
+
+    @Test
+    public void manyLinesShouldBeIndexed() {
+        String text = "SELECT 1;\n".repeat(10_000);
+        var index = LineIndex.of(text);
+        assertThat(index.lineCount()).isEqualTo(10_001);
+        assertThat(index.locationAt(99_997)).isEqualTo(new Location(10_000, 8, 99_997));
+    }
+
+    @Test
+    public void codeFragmentShouldPointToColumn() {
+        var finder = new CodeFragmentFinder(TEXT);
+        assertThat(finder.findCode(new Location(2, 4, 20))).hasValue("\tc integer\n\t  ^");
+        assertThat(finder.findCode(new Location(4, 1, TEXT.length()))).isEmpty();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.openclosed.squall.api.test.text;
+
+import dev.openclosed.squall.api.text.MappedText;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.charset.MalformedInputException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MappedTextTest {
+
+    @TempDir
+    private static Path tempDir;
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "CREATE TABLE t (c integer);\n",
+        "-- テーブル\nCREATE TABLE t (c text DEFAULT '😀');\n",
+    })
+    public void mappedTextShouldHaveSameContentAsString(String line) throws IOException {
+        String expected = line.repeat(200_000 / line.length());
+        Path path = Files.writeString(tempDir.resolve("large.sql"), expected);
+
+        var text = MappedText.map(path);
+
+        assertThat(text.length()).isEqualTo(expected.length());
+        for (int i = 0; i < expected.length(); i++) {
+            assertThat(text.charAt(i)).isEqualTo(expected.charAt(i));
+        }
+        // accesses the chunks backwards
+        for (int i = expected.length() - 1; i >= 0; i -= 997) {
+            assertThat(text.charAt(i)).isEqualTo(expected.charAt(i));
+        }
+        assertThat(text.subSequence(65_530, 65_560).toString()).isEqualTo(expected.substring(65_530, 65_560));
+        assertThat(text.toString()).isEqualTo(expected);
+    }
+
+    @Test
+    public void emptyFileShouldBeEmptyText() throws IOException {
+        Path path = Files.writeString(tempDir.resolve("empty.sql"), "");
+        var text = MappedText.map(path);
+        assertThat(text.length()).isZero();
+        assertThat(text.toString()).isEmpty();
+    }
+
+    @Test
+    public void smallFileShouldBeReadAsString() throws IOException {
+        Path path = Files.writeString(tempDir.resolve("small.sql"), "SELECT 1;");
+        assertThat(MappedText.read(path)).isInstanceOf(String.class).hasToString("SELECT 1;");
+    }
+
+    @Test
+    public void malformedFileShouldBeRejected() throws IOException {
+        Path path = Files.write(tempDir.resolve("malformed.sql"), new byte[] {'a', (byte) 0xff, 'b'});
+        assertThatThrownBy(() -> MappedText.map(path)).isInstanceOf(MalformedInputException.class);
+    }
+}
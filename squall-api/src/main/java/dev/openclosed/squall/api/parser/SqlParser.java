@@ -46,4 +46,16 @@ public interface SqlParser {
      * @return immutable list of problems.
      */
     List<Problem> getProblems();
+
+    /**
+     * Changes the database against which unqualified object names are resolved.
+     * This is needed when the text to parse follows another text
+     * that has already changed the current database.
+     *
+     * <p>The default implementation does nothing,
+     * which leaves the names resolved against the database specified in the text to parse.</p>
+     * @param databaseName the name of the database.
+     */
+    default void setCurrentDatabase(String databaseName) {
+    }
 }
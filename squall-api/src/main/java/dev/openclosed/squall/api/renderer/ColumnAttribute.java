@@ -46,6 +46,8 @@ public enum ColumnAttribute {
     DEFAULT_VALUE,
     /** Foreign key constraints of the column. */
     FOREIGN_KEY,
+    /** Foreign keys of other tables referencing the column. */
+    REFERENCED_BY,
     /** Description of the column. */
     DESCRIPTION;
 
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.openclosed.squall.api.renderer;
+
+/**
+ * Ways to split a document into multiple files.
+ */
+public enum DocumentSplit {
+    /** The whole document is written into a single file. */
+    NONE,
+    /** Each schema is written into its own file, linked from the index file. */
+    SCHEMA,
+    /** Each table and sequence is written into its own file, linked from the index file. */
+    TABLE
+}
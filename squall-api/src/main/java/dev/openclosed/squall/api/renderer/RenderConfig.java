@@ -37,6 +37,8 @@ import dev.openclosed.squall.api.sql.spec.ComponentOrder;
  * @param pageSize the size of the page. Used for PDF format.
  * @param pageOrientation the orientation of the page. Used for PDF format.
  * @param pageMargin the margin of the page. Used for PDF format.
+ * @param keepAsciiDoc whether the intermediate AsciiDoc file is kept or not. Used for HTML and PDF formats.
+ * @param split how the document is split into multiple files.
  */
 public record RenderConfig(
         String format,
@@ -49,7 +51,9 @@ public record RenderConfig(
         List<SequenceAttribute> sequenceAttributes,
         String pageSize,
         PageOrientation pageOrientation,
-        List<String> pageMargin) {
+        List<String> pageMargin,
+        boolean keepAsciiDoc,
+        DocumentSplit split) {
 
     private static final RenderConfig DEFAULT = new RenderConfig();
 
@@ -75,7 +79,9 @@ public record RenderConfig(
             SequenceAttribute.defaultList(),
             "a4",
             PageOrientation.PORTRAIT,
-            List.of("10mm", "10mm", "10mm", "10mm")
+            List.of("10mm", "10mm", "10mm", "10mm"),
+            false,
+            DocumentSplit.NONE
         );
     }
 
@@ -92,9 +98,12 @@ public record RenderConfig(
      * @param pageSize the size of the page. Used for PDF format.
      * @param pageOrientation the orientation of the page. Used for PDF format.
      * @param pageMargin the margin of the page. Used for PDF format.
+     * @param keepAsciiDoc whether the intermediate AsciiDoc file is kept or not. Used for HTML and PDF formats.
+     * @param split how the document is split into multiple files.
      */
     public RenderConfig {
         Objects.requireNonNull(pageMargin);
+        Objects.requireNonNull(split);
         if (pageMargin.isEmpty() || pageMargin.size() > 4) {
             throw new IllegalArgumentException();
         }
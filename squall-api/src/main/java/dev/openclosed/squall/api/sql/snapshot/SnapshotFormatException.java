@@ -0,0 +1,45 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.openclosed.squall.api.sql.snapshot;
+
+import java.io.IOException;
+
+/**
+ * Exception thrown when a snapshot cannot be read.
+ */
+public class SnapshotFormatException extends IOException {
+
+    private static final long serialVersionUID = 4921518738101437629L;
+
+    /**
+     * Constructs an exception.
+     * @param message the detail message.
+     */
+    public SnapshotFormatException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs an exception.
+     * @param message the detail message.
+     * @param cause the cause of the exception.
+     */
+    public SnapshotFormatException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,399 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.openclosed.squall.api.sql.snapshot;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import dev.openclosed.squall.api.sql.annotation.Deprecated;
+import dev.openclosed.squall.api.sql.annotation.Description;
+import dev.openclosed.squall.api.sql.annotation.DocAnnotation;
+import dev.openclosed.squall.api.sql.annotation.DocAnnotationFactory;
+import dev.openclosed.squall.api.sql.annotation.Label;
+import dev.openclosed.squall.api.sql.annotation.See;
+import dev.openclosed.squall.api.sql.annotation.Since;
+import dev.openclosed.squall.api.sql.expression.BasicFunctionCall;
+import dev.openclosed.squall.api.sql.expression.BinaryOperator;
+import dev.openclosed.squall.api.sql.expression.BitStringLiteral;
+import dev.openclosed.squall.api.sql.expression.BooleanConstant;
+import dev.openclosed.squall.api.sql.expression.Case;
+import dev.openclosed.squall.api.sql.expression.ColumnReference;
+import dev.openclosed.squall.api.sql.expression.Expression;
+import dev.openclosed.squall.api.sql.expression.In;
+import dev.openclosed.squall.api.sql.expression.Is;
+import dev.openclosed.squall.api.sql.expression.NotIn;
+import dev.openclosed.squall.api.sql.expression.NumberLiteral;
+import dev.openclosed.squall.api.sql.expression.SequenceFunctionCall;
+import dev.openclosed.squall.api.sql.expression.StringLiteral;
+import dev.openclosed.squall.api.sql.expression.Typecast;
+import dev.openclosed.squall.api.sql.expression.UnaryOperator;
+import dev.openclosed.squall.api.sql.expression.ValueFunctionCall;
+import dev.openclosed.squall.api.sql.spec.Column;
+import dev.openclosed.squall.api.sql.spec.Component;
+import dev.openclosed.squall.api.sql.spec.Database;
+import dev.openclosed.squall.api.sql.spec.DatabaseSpec;
+import dev.openclosed.squall.api.sql.spec.ForeignKey;
+import dev.openclosed.squall.api.sql.spec.PrimaryKey;
+import dev.openclosed.squall.api.sql.spec.Schema;
+import dev.openclosed.squall.api.sql.spec.Sequence;
+import dev.openclosed.squall.api.sql.spec.SpecMetadata;
+import dev.openclosed.squall.api.sql.spec.Table;
+import dev.openclosed.squall.api.sql.spec.Unique;
+
+/**
+ * A reader of a snapshot.
+ *
+ * <p>The strings and the lists of names are decoded once from the tables,
+ * and shared by all components referring to them.
+ * The reader is also used by {@link SpecRecording} to decode the values passed to a builder.</p>
+ */
+final class SnapshotReader {
+
+    private static final Component.State[] STATES = Component.State.values();
+
+    private final byte[] data;
+    private int pos;
+
+    private String[] strings;
+    private List<?>[] nameLists;
+    private DocAnnotationFactory annotationFactory;
+
+    SnapshotReader(byte[] data) {
+        this.data = data;
+    }
+
+    DatabaseSpec read() throws SnapshotFormatException {
+        readHead(SpecSnapshot.MAGIC);
+        try {
+            var metadata = readMetadata();
+            var databases = new Database[readCount()];
+            for (int i = 0; i < databases.length; i++) {
+                databases[i] = readDatabase();
+            }
+            if (pos != data.length) {
+                throw new SnapshotFormatException("Snapshot has trailing bytes.");
+            }
+            return new DatabaseSpec(List.of(databases), metadata);
+        } catch (RuntimeException e) {
+            throw new SnapshotFormatException("Snapshot is corrupted.", e);
+        }
+    }
+
+    /**
+     * Reads the header and the tables preceding the body.
+     * @param magic the magic bytes identifying the kind of the content.
+     * @throws SnapshotFormatException if the header or the tables are invalid.
+     */
+    void readHead(byte[] magic) throws SnapshotFormatException {
+        readHeader(magic);
+        try {
+            readStringTable();
+            readNameListTable();
+        } catch (RuntimeException e) {
+            throw new SnapshotFormatException("Snapshot is corrupted.", e);
+        }
+    }
+
+    boolean hasRemaining() {
+        return pos < data.length;
+    }
+
+    private void readHeader(byte[] magic) throws SnapshotFormatException {
+        if (data.length < magic.length
+            || !Arrays.equals(data, 0, magic.length, magic, 0, magic.length)) {
+            throw new SnapshotFormatException("Not a snapshot of database specification.");
+        }
+        pos = magic.length;
+        int version;
+        try {
+            version = readVarInt();
+        } catch (RuntimeException e) {
+            throw new SnapshotFormatException("Snapshot is corrupted.", e);
+        }
+        if (version != SpecSnapshot.VERSION) {
+            throw new SnapshotFormatException("Unsupported version of snapshot: " + version);
+        }
+    }
+
+    private void readStringTable() {
+        strings = new String[readCount()];
+        for (int i = 0; i < strings.length; i++) {
+            int length = readCount();
+            strings[i] = new String(data, pos, length, StandardCharsets.UTF_8);
+            pos += length;
+        }
+    }
+
+    private void readNameListTable() {
+        nameLists = new List<?>[readCount()];
+        for (int i = 0; i < nameLists.length; i++) {
+            var names = new String[readCount()];
+            for (int j = 0; j < names.length; j++) {
+                names[j] = readString();
+            }
+            nameLists[i] = List.of(names);
+        }
+    }
+
+    SpecMetadata readMetadata() {
+        return new SpecMetadata(
+            readString(),
+            readOptionalString(),
+            readOptionalString(),
+            readOptionalString());
+    }
+
+    private Database readDatabase() {
+        var name = readString();
+        var state = STATES[readVarInt()];
+        var annotations = readAnnotations();
+        var schemas = new Schema[readCount()];
+        for (int i = 0; i < schemas.length; i++) {
+            schemas[i] = readSchema();
+        }
+        return new Database(name, List.of(schemas), annotations, state);
+    }
+
+    private Schema readSchema() {
+        var name = readString();
+        var parents = readNames();
+        var state = STATES[readVarInt()];
+        var annotations = readAnnotations();
+        var sequences = new Sequence[readCount()];
+        for (int i = 0; i < sequences.length; i++) {
+            sequences[i] = readSequence();
+        }
+        var tables = new Table[readCount()];
+        for (int i = 0; i < tables.length; i++) {
+            tables[i] = readTable();
+        }
+        return new Schema(name, parents, List.of(sequences), List.of(tables), annotations, state);
+    }
+
+    private Sequence readSequence() {
+        return new Sequence(
+            readString(),
+            readNames(),
+            readString(),
+            readVarLong(),
+            readVarLong(),
+            readVarLong(),
+            readVarLong(),
+            readAnnotations());
+    }
+
+    private Table readTable() {
+        var name = readString();
+        var parents = readNames();
+        var columns = new Column[readCount()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = readColumn();
+        }
+        var primaryKey = readPrimaryKey();
+        var foreignKeys = new ForeignKey[readCount()];
+        for (int i = 0; i < foreignKeys.length; i++) {
+            foreignKeys[i] = readForeignKey();
+        }
+        var unique = new Unique[readCount()];
+        for (int i = 0; i < unique.length; i++) {
+            unique[i] = new Unique(readOptionalString(), readNames());
+        }
+        return new Table(name, parents, List.of(columns), primaryKey,
+            List.of(foreignKeys), List.of(unique), readAnnotations());
+    }
+
+    private Column readColumn() {
+        var name = readString();
+        var parents = readNames();
+        var typeName = readString();
+        var length = readOptionalInt();
+        var precision = readOptionalInt();
+        var scale = readOptionalInt();
+        int flags = readVarInt();
+        return new Column(name, parents, typeName, length, precision, scale,
+            (flags & Tag.REQUIRED) != 0,
+            (flags & Tag.PRIMARY_KEY) != 0,
+            (flags & Tag.UNIQUE) != 0,
+            readOptionalExpression(),
+            readAnnotations());
+    }
+
+    private Optional<PrimaryKey> readPrimaryKey() {
+        if (readVarInt() == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(new PrimaryKey(readOptionalString(), readNames()));
+    }
+
+    private ForeignKey readForeignKey() {
+        var constraintName = readOptionalString();
+        var tableName = readNames();
+        int size = readCount();
+        Map<String, String> mapping = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            mapping.put(readString(), readString());
+        }
+        return new ForeignKey(constraintName, tableName, mapping);
+    }
+
+    List<DocAnnotation<?>> readAnnotations() {
+        int size = readCount();
+        if (size == 0) {
+            return List.of();
+        }
+        var annotations = new DocAnnotation<?>[size];
+        for (int i = 0; i < size; i++) {
+            annotations[i] = readAnnotation();
+        }
+        return List.of(annotations);
+    }
+
+    private DocAnnotation<?> readAnnotation() {
+        int tag = readVarInt();
+        return switch (tag) {
+            case Tag.DESCRIPTION -> new Description(readString());
+            case Tag.LABEL -> new Label(readString());
+            case Tag.DEPRECATED -> new Deprecated(readString());
+            case Tag.SEE -> new See(readString());
+            case Tag.SINCE -> new Since(readString());
+            case Tag.OTHER_ANNOTATION -> createAnnotation(readString(), readString());
+            default -> throw new IllegalStateException("Unknown annotation: " + tag);
+        };
+    }
+
+    private DocAnnotation<?> createAnnotation(String name, String value) {
+        if (annotationFactory == null) {
+            annotationFactory = DocAnnotationFactory.newInstance();
+        }
+        var annotation = annotationFactory.createAnnotation(name, value);
+        if (annotation == null) {
+            throw new IllegalStateException("Unknown annotation: " + name);
+        }
+        return annotation;
+    }
+
+    private Optional<Expression> readOptionalExpression() {
+        int tag = readVarInt();
+        return (tag == Tag.NO_EXPRESSION) ? Optional.empty() : Optional.of(readExpression(tag));
+    }
+
+    private List<Expression> readExpressions() {
+        var expressions = new Expression[readCount()];
+        for (int i = 0; i < expressions.length; i++) {
+            expressions[i] = readExpression();
+        }
+        return List.of(expressions);
+    }
+
+    Expression readExpression() {
+        return readExpression(readVarInt());
+    }
+
+    private Expression readExpression(int tag) {
+        return switch (tag) {
+            case Tag.STRING -> StringLiteral.of(readString());
+            case Tag.BIT_STRING -> BitStringLiteral.of(readString());
+            case Tag.NUMBER -> new NumberLiteral(readString());
+            case Tag.TRUE -> BooleanConstant.TRUE;
+            case Tag.FALSE -> BooleanConstant.FALSE;
+            case Tag.NULL -> Expression.NULL;
+            case Tag.FUNCTION -> new BasicFunctionCall(readString(), readExpressions());
+            case Tag.VALUE_FUNCTION -> new ValueFunctionCall(readString());
+            case Tag.SEQUENCE_FUNCTION -> new SequenceFunctionCall(readString(), readExpressions(), readNames());
+            case Tag.UNARY_OPERATOR -> new UnaryOperator(readString(), readExpression());
+            case Tag.BINARY_OPERATOR -> new BinaryOperator(readString(), readExpression(), readExpression());
+            case Tag.COLUMN_REFERENCE -> new ColumnReference(readString());
+            case Tag.TYPECAST -> new Typecast(readExpression(), readString(),
+                readOptionalInt(), readOptionalInt(), readOptionalInt());
+            case Tag.IS -> new Is(readExpression(), readString());
+            case Tag.IN -> new In(readExpression(), readExpressions());
+            case Tag.NOT_IN -> new NotIn(readExpression(), readExpressions());
+            case Tag.CASE -> readCase();
+            default -> throw new IllegalStateException("Unknown expression: " + tag);
+        };
+    }
+
+    private Case readCase() {
+        var expression = readOptionalExpression();
+        var when = new Case.When[readCount()];
+        for (int i = 0; i < when.length; i++) {
+            when[i] = new Case.When(readExpression(), readExpression());
+        }
+        return new Case(expression, List.of(when), readOptionalExpression());
+    }
+
+    String readString() {
+        return strings[readVarInt()];
+    }
+
+    Optional<String> readOptionalString() {
+        int index = readVarInt();
+        return (index == 0) ? Optional.empty() : Optional.of(strings[index - 1]);
+    }
+
+    @SuppressWarnings("unchecked")
+    List<String> readNames() {
+        return (List<String>) nameLists[readVarInt()];
+    }
+
+    OptionalInt readOptionalInt() {
+        if (readVarInt() == 0) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(Math.toIntExact(readVarLong()));
+    }
+
+    // Reads the number of elements, each of which takes at least one byte.
+    private int readCount() {
+        int count = readVarInt();
+        if (count < 0 || count > data.length - pos) {
+            throw new IllegalStateException("Invalid count: " + count);
+        }
+        return count;
+    }
+
+    int readVarInt() {
+        long value = readUnsigned();
+        if (value > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Value out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    long readVarLong() {
+        long value = readUnsigned();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private long readUnsigned() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = data[pos++];
+            value |= (long) (b & 0x7f) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed variable-length integer");
+    }
+}
@@ -0,0 +1,410 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.openclosed.squall.api.sql.snapshot;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import dev.openclosed.squall.api.sql.annotation.Deprecated;
+import dev.openclosed.squall.api.sql.annotation.Description;
+import dev.openclosed.squall.api.sql.annotation.DocAnnotation;
+import dev.openclosed.squall.api.sql.annotation.Label;
+import dev.openclosed.squall.api.sql.annotation.See;
+import dev.openclosed.squall.api.sql.annotation.Since;
+import dev.openclosed.squall.api.sql.expression.BasicFunctionCall;
+import dev.openclosed.squall.api.sql.expression.BinaryOperator;
+import dev.openclosed.squall.api.sql.expression.BitStringLiteral;
+import dev.openclosed.squall.api.sql.expression.BooleanConstant;
+import dev.openclosed.squall.api.sql.expression.Case;
+import dev.openclosed.squall.api.sql.expression.ColumnReference;
+import dev.openclosed.squall.api.sql.expression.Expression;
+import dev.openclosed.squall.api.sql.expression.In;
+import dev.openclosed.squall.api.sql.expression.Is;
+import dev.openclosed.squall.api.sql.expression.NotIn;
+import dev.openclosed.squall.api.sql.expression.Null;
+import dev.openclosed.squall.api.sql.expression.NumberLiteral;
+import dev.openclosed.squall.api.sql.expression.SequenceFunctionCall;
+import dev.openclosed.squall.api.sql.expression.StringLiteral;
+import dev.openclosed.squall.api.sql.expression.Typecast;
+import dev.openclosed.squall.api.sql.expression.UnaryOperator;
+import dev.openclosed.squall.api.sql.expression.ValueFunctionCall;
+import dev.openclosed.squall.api.sql.spec.Column;
+import dev.openclosed.squall.api.sql.spec.Database;
+import dev.openclosed.squall.api.sql.spec.DatabaseSpec;
+import dev.openclosed.squall.api.sql.spec.ForeignKey;
+import dev.openclosed.squall.api.sql.spec.PrimaryKey;
+import dev.openclosed.squall.api.sql.spec.Schema;
+import dev.openclosed.squall.api.sql.spec.Sequence;
+import dev.openclosed.squall.api.sql.spec.SpecMetadata;
+import dev.openclosed.squall.api.sql.spec.Table;
+import dev.openclosed.squall.api.sql.spec.Unique;
+
+/**
+ * A writer of a snapshot.
+ *
+ * <p>The body is written first while collecting the strings and the lists of names into the tables,
+ * and then the tables are written ahead of the body.
+ * The writer is also used by {@link SpecRecording} to encode the values passed to a builder.</p>
+ */
+final class SnapshotWriter {
+
+    private final Map<String, Integer> strings = new LinkedHashMap<>();
+    private final Map<List<String>, Integer> nameLists = new LinkedHashMap<>();
+    private final ByteSink body = new ByteSink();
+
+    byte[] write(DatabaseSpec spec) {
+        writeMetadata(spec.metadata());
+        body.writeVarInt(spec.databases().size());
+        spec.databases().forEach(this::writeDatabase);
+        return toBytes(SpecSnapshot.MAGIC);
+    }
+
+    /**
+     * Returns the bytes written so far, preceded by the header and the tables.
+     * @param magic the magic bytes identifying the kind of the content.
+     * @return the bytes written.
+     */
+    byte[] toBytes(byte[] magic) {
+        var out = new ByteSink();
+        out.writeBytes(magic, 0, magic.length);
+        out.writeVarInt(SpecSnapshot.VERSION);
+        writeStringTable(out);
+        writeNameListTable(out);
+        out.writeBytes(body.bytes(), 0, body.size());
+        return out.toByteArray();
+    }
+
+    private void writeStringTable(ByteSink out) {
+        out.writeVarInt(strings.size());
+        for (var string : strings.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            out.writeVarInt(bytes.length);
+            out.writeBytes(bytes, 0, bytes.length);
+        }
+    }
+
+    private void writeNameListTable(ByteSink out) {
+        out.writeVarInt(nameLists.size());
+        for (var names : nameLists.keySet()) {
+            out.writeVarInt(names.size());
+            for (var name : names) {
+                out.writeVarInt(strings.get(name));
+            }
+        }
+    }
+
+    void writeMetadata(SpecMetadata metadata) {
+        writeString(metadata.title());
+        writeOptionalString(metadata.author());
+        writeOptionalString(metadata.version());
+        writeOptionalString(metadata.date());
+    }
+
+    private void writeDatabase(Database database) {
+        writeString(database.name());
+        body.writeVarInt(database.state().ordinal());
+        writeAnnotations(database.annotations());
+        body.writeVarInt(database.schemas().size());
+        database.schemas().forEach(this::writeSchema);
+    }
+
+    private void writeSchema(Schema schema) {
+        writeString(schema.name());
+        writeNames(schema.parents());
+        body.writeVarInt(schema.state().ordinal());
+        writeAnnotations(schema.annotations());
+        body.writeVarInt(schema.sequences().size());
+        schema.sequences().forEach(this::writeSequence);
+        body.writeVarInt(schema.tables().size());
+        schema.tables().forEach(this::writeTable);
+    }
+
+    private void writeSequence(Sequence sequence) {
+        writeString(sequence.name());
+        writeNames(sequence.parents());
+        writeString(sequence.typeName());
+        body.writeVarLong(sequence.start());
+        body.writeVarLong(sequence.increment());
+        body.writeVarLong(sequence.maxValue());
+        body.writeVarLong(sequence.minValue());
+        writeAnnotations(sequence.annotations());
+    }
+
+    private void writeTable(Table table) {
+        writeString(table.name());
+        writeNames(table.parents());
+        body.writeVarInt(table.columns().size());
+        table.columns().forEach(this::writeColumn);
+        writePrimaryKey(table.primaryKey());
+        body.writeVarInt(table.foreignKeys().size());
+        table.foreignKeys().forEach(this::writeForeignKey);
+        body.writeVarInt(table.unique().size());
+        table.unique().forEach(this::writeUnique);
+        writeAnnotations(table.annotations());
+    }
+
+    private void writeColumn(Column column) {
+        writeString(column.name());
+        writeNames(column.parents());
+        writeString(column.typeName());
+        writeOptionalInt(column.length());
+        writeOptionalInt(column.precision());
+        writeOptionalInt(column.scale());
+        int flags = 0;
+        if (column.isRequired()) {
+            flags |= Tag.REQUIRED;
+        }
+        if (column.isPrimaryKey()) {
+            flags |= Tag.PRIMARY_KEY;
+        }
+        if (column.isUnique()) {
+            flags |= Tag.UNIQUE;
+        }
+        body.writeVarInt(flags);
+        writeOptionalExpression(column.defaultValue());
+        writeAnnotations(column.annotations());
+    }
+
+    private void writePrimaryKey(Optional<PrimaryKey> primaryKey) {
+        if (primaryKey.isPresent()) {
+            body.writeVarInt(1);
+            writeOptionalString(primaryKey.get().constraintName());
+            writeNames(primaryKey.get().columns());
+        } else {
+            body.writeVarInt(0);
+        }
+    }
+
+    private void writeForeignKey(ForeignKey foreignKey) {
+        writeOptionalString(foreignKey.constraintName());
+        writeNames(foreignKey.tableName());
+        var mapping = foreignKey.columnMapping();
+        body.writeVarInt(mapping.size());
+        mapping.forEach((column, refColumn) -> {
+            writeString(column);
+            writeString(refColumn);
+        });
+    }
+
+    private void writeUnique(Unique unique) {
+        writeOptionalString(unique.constraintName());
+        writeNames(unique.columns());
+    }
+
+    void writeAnnotations(List<DocAnnotation<?>> annotations) {
+        body.writeVarInt(annotations.size());
+        for (var annotation : annotations) {
+            if (annotation instanceof Description) {
+                body.writeVarInt(Tag.DESCRIPTION);
+            } else if (annotation instanceof Label) {
+                body.writeVarInt(Tag.LABEL);
+            } else if (annotation instanceof Deprecated) {
+                body.writeVarInt(Tag.DEPRECATED);
+            } else if (annotation instanceof See) {
+                body.writeVarInt(Tag.SEE);
+            } else if (annotation instanceof Since) {
+                body.writeVarInt(Tag.SINCE);
+            } else {
+                // will be created again by the annotation factory.
+                body.writeVarInt(Tag.OTHER_ANNOTATION);
+                writeString(annotation.name());
+            }
+            writeString(String.valueOf(annotation.value()));
+        }
+    }
+
+    private void writeOptionalExpression(Optional<Expression> expression) {
+        if (expression.isPresent()) {
+            writeExpression(expression.get());
+        } else {
+            body.writeVarInt(Tag.NO_EXPRESSION);
+        }
+    }
+
+    private void writeExpressions(List<Expression> expressions) {
+        body.writeVarInt(expressions.size());
+        expressions.forEach(this::writeExpression);
+    }
+
+    void writeExpression(Expression expression) {
+        if (expression instanceof StringLiteral e) {
+            body.writeVarInt(Tag.STRING);
+            writeString(e.value());
+        } else if (expression instanceof BitStringLiteral e) {
+            body.writeVarInt(Tag.BIT_STRING);
+            writeString(e.value());
+        } else if (expression instanceof NumberLiteral e) {
+            body.writeVarInt(Tag.NUMBER);
+            writeString(e.value());
+        } else if (expression instanceof BooleanConstant e) {
+            body.writeVarInt(e.value() ? Tag.TRUE : Tag.FALSE);
+        } else if (expression instanceof Null) {
+            body.writeVarInt(Tag.NULL);
+        } else if (expression instanceof BasicFunctionCall e) {
+            body.writeVarInt(Tag.FUNCTION);
+            writeString(e.name());
+            writeExpressions(e.arguments());
+        } else if (expression instanceof ValueFunctionCall e) {
+            body.writeVarInt(Tag.VALUE_FUNCTION);
+            writeString(e.name());
+        } else if (expression instanceof SequenceFunctionCall e) {
+            body.writeVarInt(Tag.SEQUENCE_FUNCTION);
+            writeString(e.name());
+            writeExpressions(e.arguments());
+            writeNames(e.sequenceName());
+        } else if (expression instanceof UnaryOperator e) {
+            body.writeVarInt(Tag.UNARY_OPERATOR);
+            writeString(e.operator());
+            writeExpression(e.operand());
+        } else if (expression instanceof BinaryOperator e) {
+            body.writeVarInt(Tag.BINARY_OPERATOR);
+            writeString(e.operator());
+            writeExpression(e.left());
+            writeExpression(e.right());
+        } else if (expression instanceof ColumnReference e) {
+            body.writeVarInt(Tag.COLUMN_REFERENCE);
+            writeString(e.name());
+        } else if (expression instanceof Typecast e) {
+            body.writeVarInt(Tag.TYPECAST);
+            writeExpression(e.source());
+            writeString(e.typeName());
+            writeOptionalInt(e.length());
+            writeOptionalInt(e.precision());
+            writeOptionalInt(e.scale());
+        } else if (expression instanceof Is e) {
+            body.writeVarInt(Tag.IS);
+            writeExpression(e.subject());
+            writeString(e.predicate());
+        } else if (expression instanceof In e) {
+            body.writeVarInt(Tag.IN);
+            writeExpression(e.left());
+            writeExpressions(e.right());
+        } else if (expression instanceof NotIn e) {
+            body.writeVarInt(Tag.NOT_IN);
+            writeExpression(e.left());
+            writeExpressions(e.right());
+        } else if (expression instanceof Case e) {
+            body.writeVarInt(Tag.CASE);
+            writeOptionalExpression(e.expression());
+            body.writeVarInt(e.when().size());
+            for (var when : e.when()) {
+                writeExpression(when.condition());
+                writeExpression(when.result());
+            }
+            writeOptionalExpression(e.elseClause());
+        } else {
+            throw new IllegalArgumentException("Unsupported expression: " + expression.getClass().getName());
+        }
+    }
+
+    void writeString(String string) {
+        body.writeVarInt(internString(string));
+    }
+
+    // 0 is reserved for an absent string.
+    void writeOptionalString(Optional<String> string) {
+        body.writeVarInt(string.map(s -> internString(s) + 1).orElse(0));
+    }
+
+    void writeNames(List<String> names) {
+        Integer index = nameLists.get(names);
+        if (index == null) {
+            names.forEach(this::internString);
+            index = nameLists.size();
+            nameLists.put(List.copyOf(names), index);
+        }
+        body.writeVarInt(index);
+    }
+
+    void writeOptionalInt(OptionalInt value) {
+        if (value.isPresent()) {
+            body.writeVarInt(1);
+            body.writeVarLong(value.getAsInt());
+        } else {
+            body.writeVarInt(0);
+        }
+    }
+
+    void writeVarInt(int value) {
+        body.writeVarInt(value);
+    }
+
+    void writeVarLong(long value) {
+        body.writeVarLong(value);
+    }
+
+    private int internString(String string) {
+        return strings.computeIfAbsent(string, s -> strings.size());
+    }
+
+    /**
+     * A growable array of bytes.
+     */
+    private static final class ByteSink {
+
+        private byte[] bytes = new byte[1024];
+        private int size;
+
+        byte[] bytes() {
+            return bytes;
+        }
+
+        int size() {
+            return size;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+
+        void writeVarInt(int value) {
+            writeUnsigned(value & 0xffffffffL);
+        }
+
+        // writes a signed value in the zigzag encoding.
+        void writeVarLong(long value) {
+            writeUnsigned((value << 1) ^ (value >> 63));
+        }
+
+        void writeBytes(byte[] source, int offset, int length) {
+            ensureCapacity(length);
+            System.arraycopy(source, offset, bytes, size, length);
+            size += length;
+        }
+
+        private void writeUnsigned(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7fL) != 0) {
+                bytes[size++] = (byte) ((value & 0x7f) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        private void ensureCapacity(int additional) {
+            if (size + additional > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + additional));
+            }
+        }
+    }
+}
@@ -0,0 +1,359 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.openclosed.squall.api.sql.snapshot;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import dev.openclosed.squall.api.sql.annotation.DocAnnotation;
+import dev.openclosed.squall.api.sql.datatype.DataType;
+import dev.openclosed.squall.api.sql.datatype.IntegerDataType;
+import dev.openclosed.squall.api.sql.expression.Expression;
+import dev.openclosed.squall.api.sql.expression.ObjectRef;
+import dev.openclosed.squall.api.sql.spec.DatabaseSpec;
+import dev.openclosed.squall.api.sql.spec.SpecMetadata;
+
+/**
+ * A builder which records the calls made to it in the binary form shared with {@link SpecSnapshot}.
+ *
+ * <p>The recorded calls can be replayed on another builder any number of times,
+ * and can be saved as bytes to be replayed in a later run.
+ * Unlike a snapshot, a recording keeps the names as written in the SQL sources,
+ * so it can be merged with the recordings of other sources before they are resolved.</p>
+ */
+public final class SpecRecording implements DatabaseSpec.Builder {
+
+    // "SQSR"
+    static final byte[] MAGIC = {0x53, 0x51, 0x53, 0x52};
+
+    private static final IntegerDataType[] INTEGER_DATA_TYPES = IntegerDataType.values();
+
+    private final SnapshotWriter writer = new SnapshotWriter();
+
+    /**
+     * Constructs an empty recording.
+     */
+    public SpecRecording() {
+    }
+
+    /**
+     * Reads a recording from the bytes.
+     * @param bytes the bytes returned by {@link #toBytes()}, cannot be {@code null}.
+     * @return the recording read.
+     * @throws SnapshotFormatException if the bytes are not a valid recording of the current version.
+     */
+    public static SpecRecording fromBytes(byte[] bytes) throws SnapshotFormatException {
+        Objects.requireNonNull(bytes);
+        var reader = new SnapshotReader(bytes);
+        reader.readHead(MAGIC);
+        var recording = new SpecRecording();
+        try {
+            replay(reader, recording);
+        } catch (RuntimeException e) {
+            throw new SnapshotFormatException("Recording is corrupted.", e);
+        }
+        return recording;
+    }
+
+    /**
+     * Applies all recorded calls to the specified builder in the recorded order.
+     * @param target the builder to which the calls are applied, cannot be {@code null}.
+     */
+    public void replay(DatabaseSpec.Builder target) {
+        Objects.requireNonNull(target);
+        var reader = new SnapshotReader(toBytes());
+        try {
+            reader.readHead(MAGIC);
+        } catch (SnapshotFormatException e) {
+            // never happens for the bytes written by this recording.
+            throw new IllegalStateException(e);
+        }
+        replay(reader, target);
+    }
+
+    /**
+     * Returns the recorded calls as bytes.
+     * @return the bytes of this recording.
+     */
+    public byte[] toBytes() {
+        return writer.toBytes(MAGIC);
+    }
+
+    @Override
+    public DatabaseSpec.Builder setMetadata(SpecMetadata metadata) {
+        Objects.requireNonNull(metadata);
+        writer.writeVarInt(Tag.SET_METADATA);
+        writer.writeMetadata(metadata);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder setTitle(String title) {
+        Objects.requireNonNull(title);
+        writer.writeVarInt(Tag.SET_TITLE);
+        writer.writeString(title);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder setAuthor(String author) {
+        return recordNullable(Tag.SET_AUTHOR, author);
+    }
+
+    @Override
+    public DatabaseSpec.Builder setVersion(String version) {
+        return recordNullable(Tag.SET_VERSION, version);
+    }
+
+    @Override
+    public DatabaseSpec.Builder setDate(String date) {
+        return recordNullable(Tag.SET_DATE, date);
+    }
+
+    @Override
+    public DatabaseSpec.Builder addDatabase(String name, List<DocAnnotation<?>> annotations) {
+        Objects.requireNonNull(name);
+        writer.writeVarInt(Tag.ADD_DATABASE);
+        writer.writeString(name);
+        writer.writeAnnotations(annotations);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder changeCurrentDatabase(String name) {
+        Objects.requireNonNull(name);
+        writer.writeVarInt(Tag.CHANGE_CURRENT_DATABASE);
+        writer.writeString(name);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder addSchema(String name, List<DocAnnotation<?>> annotations) {
+        Objects.requireNonNull(name);
+        writer.writeVarInt(Tag.ADD_SCHEMA);
+        writer.writeString(name);
+        writer.writeAnnotations(annotations);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder addTable(String schemaName, String tableName, List<DocAnnotation<?>> annotations) {
+        Objects.requireNonNull(tableName);
+        writer.writeVarInt(Tag.ADD_TABLE);
+        writer.writeOptionalString(Optional.ofNullable(schemaName));
+        writer.writeString(tableName);
+        writer.writeAnnotations(annotations);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder alterTable(String schemaName, String tableName) {
+        Objects.requireNonNull(tableName);
+        writer.writeVarInt(Tag.ALTER_TABLE);
+        writer.writeOptionalString(Optional.ofNullable(schemaName));
+        writer.writeString(tableName);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder addTableColumn(
+        String columnName, DataType dataType, List<DocAnnotation<?>> annotations) {
+        Objects.requireNonNull(columnName);
+        Objects.requireNonNull(dataType);
+        writer.writeVarInt(Tag.ADD_TABLE_COLUMN);
+        writer.writeString(columnName);
+        // only the properties of the type are used by the builder.
+        writer.writeString(dataType.typeName());
+        writer.writeOptionalInt(dataType.length());
+        writer.writeOptionalInt(dataType.precision());
+        writer.writeOptionalInt(dataType.scale());
+        writer.writeAnnotations(annotations);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder addTablePrimaryKey(String constraintName, List<String> columnNames) {
+        Objects.requireNonNull(columnNames);
+        writer.writeVarInt(Tag.ADD_TABLE_PRIMARY_KEY);
+        writer.writeOptionalString(Optional.ofNullable(constraintName));
+        writer.writeNames(columnNames);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder addTableForeignKey(
+        String constraintName, ObjectRef tableRef, List<String> columns, List<String> refColumns) {
+        Objects.requireNonNull(tableRef);
+        Objects.requireNonNull(columns);
+        Objects.requireNonNull(refColumns);
+        writer.writeVarInt(Tag.ADD_TABLE_FOREIGN_KEY);
+        writer.writeOptionalString(Optional.ofNullable(constraintName));
+        writer.writeNames(tableRef.toList());
+        writer.writeNames(columns);
+        writer.writeNames(refColumns);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder addTableUniqueConstraint(String constraintName, List<String> columnNames) {
+        Objects.requireNonNull(columnNames);
+        writer.writeVarInt(Tag.ADD_TABLE_UNIQUE_CONSTRAINT);
+        writer.writeOptionalString(Optional.ofNullable(constraintName));
+        writer.writeNames(columnNames);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder addColumnNullable(boolean isNullable) {
+        writer.writeVarInt(Tag.ADD_COLUMN_NULLABLE);
+        writer.writeVarInt(isNullable ? 1 : 0);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder addColumnDefaultValue(Expression defaultValue) {
+        Objects.requireNonNull(defaultValue);
+        writer.writeVarInt(Tag.ADD_COLUMN_DEFAULT_VALUE);
+        writer.writeExpression(defaultValue);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder addSequence(
+        String schemaName, String sequenceName, List<DocAnnotation<?>> annotations) {
+        Objects.requireNonNull(sequenceName);
+        writer.writeVarInt(Tag.ADD_SEQUENCE);
+        writer.writeOptionalString(Optional.ofNullable(schemaName));
+        writer.writeString(sequenceName);
+        writer.writeAnnotations(annotations);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder addSequenceDataType(IntegerDataType dataType) {
+        Objects.requireNonNull(dataType);
+        writer.writeVarInt(Tag.ADD_SEQUENCE_DATA_TYPE);
+        writer.writeVarInt(dataType.ordinal());
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder addSequenceStart(long start) {
+        return recordLong(Tag.ADD_SEQUENCE_START, start);
+    }
+
+    @Override
+    public DatabaseSpec.Builder addSequenceIncrement(long increment) {
+        return recordLong(Tag.ADD_SEQUENCE_INCREMENT, increment);
+    }
+
+    @Override
+    public DatabaseSpec.Builder addSequenceMaxValue(long maxValue) {
+        return recordLong(Tag.ADD_SEQUENCE_MAX_VALUE, maxValue);
+    }
+
+    @Override
+    public DatabaseSpec.Builder addSequenceMinValue(long minValue) {
+        return recordLong(Tag.ADD_SEQUENCE_MIN_VALUE, minValue);
+    }
+
+    @Override
+    public DatabaseSpec build() {
+        throw new UnsupportedOperationException("recording cannot build a spec");
+    }
+
+    private DatabaseSpec.Builder recordNullable(int tag, String value) {
+        writer.writeVarInt(tag);
+        writer.writeOptionalString(Optional.ofNullable(value));
+        return this;
+    }
+
+    private DatabaseSpec.Builder recordLong(int tag, long value) {
+        writer.writeVarInt(tag);
+        writer.writeVarLong(value);
+        return this;
+    }
+
+    private static void replay(SnapshotReader reader, DatabaseSpec.Builder target) {
+        while (reader.hasRemaining()) {
+            int tag = reader.readVarInt();
+            switch (tag) {
+                case Tag.SET_METADATA -> target.setMetadata(reader.readMetadata());
+                case Tag.SET_TITLE -> target.setTitle(reader.readString());
+                case Tag.SET_AUTHOR -> target.setAuthor(reader.readOptionalString().orElse(null));
+                case Tag.SET_VERSION -> target.setVersion(reader.readOptionalString().orElse(null));
+                case Tag.SET_DATE -> target.setDate(reader.readOptionalString().orElse(null));
+                case Tag.ADD_DATABASE -> target.addDatabase(reader.readString(), reader.readAnnotations());
+                case Tag.CHANGE_CURRENT_DATABASE -> target.changeCurrentDatabase(reader.readString());
+                case Tag.ADD_SCHEMA -> target.addSchema(reader.readString(), reader.readAnnotations());
+                case Tag.ADD_TABLE -> target.addTable(
+                    reader.readOptionalString().orElse(null), reader.readString(), reader.readAnnotations());
+                case Tag.ALTER_TABLE -> target.alterTable(
+                    reader.readOptionalString().orElse(null), reader.readString());
+                case Tag.ADD_TABLE_COLUMN -> target.addTableColumn(
+                    reader.readString(), readDataType(reader), reader.readAnnotations());
+                case Tag.ADD_TABLE_PRIMARY_KEY -> target.addTablePrimaryKey(
+                    reader.readOptionalString().orElse(null), reader.readNames());
+                case Tag.ADD_TABLE_FOREIGN_KEY -> target.addTableForeignKey(
+                    reader.readOptionalString().orElse(null), readObjectRef(reader),
+                    reader.readNames(), reader.readNames());
+                case Tag.ADD_TABLE_UNIQUE_CONSTRAINT -> target.addTableUniqueConstraint(
+                    reader.readOptionalString().orElse(null), reader.readNames());
+                case Tag.ADD_COLUMN_NULLABLE -> target.addColumnNullable(reader.readVarInt() != 0);
+                case Tag.ADD_COLUMN_DEFAULT_VALUE -> target.addColumnDefaultValue(reader.readExpression());
+                case Tag.ADD_SEQUENCE -> target.addSequence(
+                    reader.readOptionalString().orElse(null), reader.readString(), reader.readAnnotations());
+                case Tag.ADD_SEQUENCE_DATA_TYPE -> target.addSequenceDataType(
+                    INTEGER_DATA_TYPES[reader.readVarInt()]);
+                case Tag.ADD_SEQUENCE_START -> target.addSequenceStart(reader.readVarLong());
+                case Tag.ADD_SEQUENCE_INCREMENT -> target.addSequenceIncrement(reader.readVarLong());
+                case Tag.ADD_SEQUENCE_MAX_VALUE -> target.addSequenceMaxValue(reader.readVarLong());
+                case Tag.ADD_SEQUENCE_MIN_VALUE -> target.addSequenceMinValue(reader.readVarLong());
+                default -> throw new IllegalStateException("Unknown call: " + tag);
+            }
+        }
+    }
+
+    private static DataType readDataType(SnapshotReader reader) {
+        return new RecordedDataType(
+            reader.readString(),
+            reader.readOptionalInt(),
+            reader.readOptionalInt(),
+            reader.readOptionalInt());
+    }
+
+    private static ObjectRef readObjectRef(SnapshotReader reader) {
+        List<String> names = reader.readNames();
+        return new ObjectRef(names.get(0), names.get(1), names.get(2));
+    }
+
+    /**
+     * A data type restored from a recording.
+     * @param typeName the name of the type.
+     * @param length the length of the type.
+     * @param precision the precision of the type.
+     * @param scale the scale of the type.
+     */
+    private record RecordedDataType(
+        String typeName,
+        OptionalInt length,
+        OptionalInt precision,
+        OptionalInt scale) implements DataType {
+    }
+}
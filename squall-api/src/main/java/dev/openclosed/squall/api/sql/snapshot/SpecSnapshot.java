@@ -0,0 +1,94 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.openclosed.squall.api.sql.snapshot;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Objects;
+
+import dev.openclosed.squall.api.sql.spec.DatabaseSpec;
+
+/**
+ * A compact binary snapshot of the database specification.
+ *
+ * <p>A snapshot holds the whole specification, including the annotations and the expressions,
+ * and the specification can be loaded from it later without parsing the SQL sources again.
+ * Each distinct string and each distinct list of names is stored only once in the tables
+ * at the head of the snapshot, and the components refer to them by index.</p>
+ *
+ * <p>A snapshot starts with the magic bytes followed by the version of the format.
+ * Snapshots written in other versions are rejected when read.</p>
+ */
+public final class SpecSnapshot {
+
+    /**
+     * The current version of the snapshot format.
+     */
+    public static final int VERSION = 1;
+
+    // "SQSS"
+    static final byte[] MAGIC = {0x53, 0x51, 0x53, 0x53};
+
+    private SpecSnapshot() {
+    }
+
+    /**
+     * Writes the specification as a snapshot.
+     * @param spec the specification to write, cannot be {@code null}.
+     * @return the bytes of the snapshot.
+     */
+    public static byte[] toBytes(DatabaseSpec spec) {
+        Objects.requireNonNull(spec);
+        return new SnapshotWriter().write(spec);
+    }
+
+    /**
+     * Writes the specification as a snapshot to the stream.
+     * @param spec the specification to write, cannot be {@code null}.
+     * @param out the stream to which the snapshot will be written, cannot be {@code null}.
+     * @throws IOException if an I/O error has occurred.
+     */
+    public static void write(DatabaseSpec spec, OutputStream out) throws IOException {
+        Objects.requireNonNull(out);
+        out.write(toBytes(spec));
+    }
+
+    /**
+     * Reads the specification from a snapshot.
+     * @param bytes the bytes of the snapshot, cannot be {@code null}.
+     * @return the specification read.
+     * @throws SnapshotFormatException if the bytes are not a valid snapshot of the current version.
+     */
+    public static DatabaseSpec fromBytes(byte[] bytes) throws SnapshotFormatException {
+        Objects.requireNonNull(bytes);
+        return new SnapshotReader(bytes).read();
+    }
+
+    /**
+     * Reads the specification from a snapshot in the stream.
+     * @param in the stream from which the snapshot will be read, cannot be {@code null}.
+     * @return the specification read.
+     * @throws SnapshotFormatException if the stream does not contain a valid snapshot of the current version.
+     * @throws IOException if an I/O error has occurred.
+     */
+    public static DatabaseSpec read(InputStream in) throws IOException {
+        Objects.requireNonNull(in);
+        return fromBytes(in.readAllBytes());
+    }
+}
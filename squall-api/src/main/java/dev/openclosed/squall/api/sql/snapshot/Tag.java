@@ -0,0 +1,84 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.openclosed.squall.api.sql.snapshot;
+
+/**
+ * Tags identifying the variants of the values in a snapshot.
+ */
+final class Tag {
+
+    // annotations
+    static final int OTHER_ANNOTATION = 0;
+    static final int DESCRIPTION = 1;
+    static final int LABEL = 2;
+    static final int DEPRECATED = 3;
+    static final int SEE = 4;
+    static final int SINCE = 5;
+
+    // expressions, where 0 is reserved for an absent expression
+    static final int NO_EXPRESSION = 0;
+    static final int STRING = 1;
+    static final int BIT_STRING = 2;
+    static final int NUMBER = 3;
+    static final int TRUE = 4;
+    static final int FALSE = 5;
+    static final int NULL = 6;
+    static final int FUNCTION = 7;
+    static final int VALUE_FUNCTION = 8;
+    static final int SEQUENCE_FUNCTION = 9;
+    static final int UNARY_OPERATOR = 10;
+    static final int BINARY_OPERATOR = 11;
+    static final int COLUMN_REFERENCE = 12;
+    static final int TYPECAST = 13;
+    static final int IS = 14;
+    static final int IN = 15;
+    static final int NOT_IN = 16;
+    static final int CASE = 17;
+
+    // flags of a column
+    static final int REQUIRED = 1;
+    static final int PRIMARY_KEY = 1 << 1;
+    static final int UNIQUE = 1 << 2;
+
+    // calls of a builder in a recording
+    static final int SET_METADATA = 0;
+    static final int SET_TITLE = 1;
+    static final int SET_AUTHOR = 2;
+    static final int SET_VERSION = 3;
+    static final int SET_DATE = 4;
+    static final int ADD_DATABASE = 5;
+    static final int CHANGE_CURRENT_DATABASE = 6;
+    static final int ADD_SCHEMA = 7;
+    static final int ADD_TABLE = 8;
+    static final int ALTER_TABLE = 9;
+    static final int ADD_TABLE_COLUMN = 10;
+    static final int ADD_TABLE_PRIMARY_KEY = 11;
+    static final int ADD_TABLE_FOREIGN_KEY = 12;
+    static final int ADD_TABLE_UNIQUE_CONSTRAINT = 13;
+    static final int ADD_COLUMN_NULLABLE = 14;
+    static final int ADD_COLUMN_DEFAULT_VALUE = 15;
+    static final int ADD_SEQUENCE = 16;
+    static final int ADD_SEQUENCE_DATA_TYPE = 17;
+    static final int ADD_SEQUENCE_START = 18;
+    static final int ADD_SEQUENCE_INCREMENT = 19;
+    static final int ADD_SEQUENCE_MAX_VALUE = 20;
+    static final int ADD_SEQUENCE_MIN_VALUE = 21;
+
+    private Tag() {
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.openclosed.squall.api.sql.spec;
+
+import dev.openclosed.squall.api.sql.annotation.DocAnnotation;
+
+import java.lang.reflect.Modifier;
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list of annotations indexed by the class of the annotation.
+ *
+ * <p>The first annotation of each class and its value are found once when the list is created,
+ * so that the lookups by the class do not scan the list nor create any objects.</p>
+ */
+final class AnnotationList extends AbstractList<DocAnnotation<?>> implements RandomAccess {
+
+    private static final AnnotationList EMPTY = new AnnotationList(new DocAnnotation<?>[0]);
+
+    private final DocAnnotation<?>[] annotations;
+    // the first annotation of each class
+    private final Map<Class<?>, Optional<DocAnnotation<?>>> firstAnnotations;
+    // the value of the first annotation of each class
+    private final Map<Class<?>, Optional<?>> firstValues;
+
+    private AnnotationList(DocAnnotation<?>[] annotations) {
+        this.annotations = annotations;
+        var first = new HashMap<Class<?>, Optional<DocAnnotation<?>>>();
+        var values = new HashMap<Class<?>, Optional<?>>();
+        for (var annotation : annotations) {
+            Class<?> clazz = annotation.getClass();
+            if (!first.containsKey(clazz)) {
+                first.put(clazz, Optional.of(annotation));
+                values.put(clazz, Optional.ofNullable(annotation.value()));
+            }
+        }
+        this.firstAnnotations = Map.copyOf(first);
+        this.firstValues = Map.copyOf(values);
+    }
+
+    /**
+     * Returns an indexed list containing the specified annotations.
+     * @param annotations the annotations to contain, must not be {@code null}.
+     * @return the indexed list, which is the argument itself if it is already indexed.
+     */
+    static AnnotationList of(List<? extends DocAnnotation<?>> annotations) {
+        if (annotations instanceof AnnotationList list) {
+            return list;
+        } else if (annotations.isEmpty()) {
+            return EMPTY;
+        }
+        var array = annotations.toArray(new DocAnnotation<?>[0]);
+        for (var annotation : array) {
+            Objects.requireNonNull(annotation);
+        }
+        return new AnnotationList(array);
+    }
+
+    @Override
+    public DocAnnotation<?> get(int index) {
+        return annotations[index];
+    }
+
+    @Override
+    public int size() {
+        return annotations.length;
+    }
+
+    /**
+     * Returns the first annotation of the specified class.
+     * @param clazz the class of the annotation.
+     * @return the first annotation of the specified class, or empty if there is no such annotation.
+     * @param <T> the type of the annotation.
+     */
+    @SuppressWarnings("unchecked")
+    <T extends DocAnnotation<?>> Optional<T> getFirstOf(Class<T> clazz) {
+        if (isIndexable(clazz)) {
+            return (Optional<T>) firstAnnotations.getOrDefault(clazz, Optional.empty());
+        }
+        for (var annotation : annotations) {
+            if (clazz.isInstance(annotation)) {
+                return Optional.of(clazz.cast(annotation));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the value of the first annotation of the specified class.
+     * @param clazz the class of the annotation.
+     * @return the value of the first annotation, or empty if there is no such annotation.
+     * @param <V> the type of the annotation value.
+     */
+    @SuppressWarnings("unchecked")
+    <V> Optional<V> getFirstValueOf(Class<? extends DocAnnotation<V>> clazz) {
+        if (isIndexable(clazz)) {
+            return (Optional<V>) firstValues.getOrDefault(clazz, Optional.empty());
+        }
+        return getFirstOf(clazz).map(DocAnnotation::value);
+    }
+
+    /**
+     * Checks whether an annotation of the specified class exists in this list.
+     * @param clazz the class of the annotation.
+     * @return {@code true} if the annotation exists.
+     */
+    boolean contains(Class<? extends DocAnnotation<?>> clazz) {
+        if (isIndexable(clazz)) {
+            return firstAnnotations.containsKey(clazz);
+        }
+        return getFirstOf(clazz).isPresent();
+    }
+
+    // Only instances of a final class are keyed exactly by their class.
+    private static boolean isIndexable(Class<?> clazz) {
+        return Modifier.isFinal(clazz.getModifiers()) && !clazz.isArray();
+    }
+}
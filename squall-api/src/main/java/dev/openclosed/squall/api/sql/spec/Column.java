@@ -78,7 +78,7 @@ public record Column(
         Objects.requireNonNull(defaultValue);
         Objects.requireNonNull(annotations);
         parents = List.copyOf(parents);
-        annotations = List.copyOf(annotations);
+        annotations = AnnotationList.of(annotations);
     }
 
     @Override
@@ -137,6 +137,9 @@ public interface Component {
      * @return {@code true} if this component is deprecated, {@code false} otherwise.
      */
     default boolean isDeprecated() {
+        if (annotations() instanceof AnnotationList list) {
+            return list.contains(Deprecated.class);
+        }
         return getFirstAnnotationOf(Deprecated.class).isPresent();
     }
 
@@ -145,6 +148,9 @@ public interface Component {
      * @return the label of this component, or empty.
      */
     default Optional<String> label() {
+        if (annotations() instanceof AnnotationList list) {
+            return list.getFirstValueOf(Label.class);
+        }
         return getFirstAnnotationOf(Label.class)
                 .map(DocAnnotation::value);
     }
@@ -154,6 +160,9 @@ public interface Component {
      * @return the description of this component, or empty.
      */
     default Optional<String> description() {
+        if (annotations() instanceof AnnotationList list) {
+            return list.getFirstValueOf(Description.class);
+        }
         return getFirstAnnotationOf(Description.class)
                 .map(DocAnnotation::value);
     }
@@ -166,6 +175,9 @@ public interface Component {
      */
     default <T extends DocAnnotation<?>> Optional<T> getFirstAnnotationOf(Class<T> clazz) {
         Objects.requireNonNull(clazz);
+        if (annotations() instanceof AnnotationList list) {
+            return list.getFirstOf(clazz);
+        }
         return annotations().stream()
                 .filter(clazz::isInstance)
                 .findFirst()
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.openclosed.squall.api.sql.spec;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An immutable list of components which caches the sorted views of itself.
+ *
+ * <p>Each view is sorted on the first request for its order, and shared by all subsequent walks.</p>
+ *
+ * @param <T> the type of the components.
+ */
+final class ComponentList<T extends Component> extends AbstractList<T> implements RandomAccess {
+
+    private static final ComponentList<?> EMPTY = new ComponentList<>(List.of());
+
+    private final List<T> components;
+    // the sorted views indexed by the ordinal of the order
+    private final AtomicReferenceArray<List<T>> sortedViews;
+
+    private ComponentList(List<T> components) {
+        this.components = components;
+        this.sortedViews = new AtomicReferenceArray<>(ComponentOrder.values().length);
+    }
+
+    /**
+     * Returns a list containing the specified components.
+     * @param components the components to contain, must not be {@code null}.
+     * @return the list, which is the argument itself if it is already an instance of this class.
+     * @param <T> the type of the components.
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends Component> ComponentList<T> of(List<T> components) {
+        if (components instanceof ComponentList<T> list) {
+            return list;
+        } else if (components.isEmpty()) {
+            return (ComponentList<T>) EMPTY;
+        }
+        return new ComponentList<>(List.copyOf(components));
+    }
+
+    @Override
+    public T get(int index) {
+        return components.get(index);
+    }
+
+    @Override
+    public int size() {
+        return components.size();
+    }
+
+    /**
+     * Returns the view of this list sorted in the specified order.
+     * @param order the order of the components.
+     * @return the immutable list sorted in the order.
+     */
+    List<T> sortedBy(ComponentOrder order) {
+        final int index = order.ordinal();
+        List<T> sorted = sortedViews.get(index);
+        if (sorted == null) {
+            var list = new ArrayList<T>(components);
+            list.sort(order.comparator());
+            // keeps the view sorted first when sorted by multiple threads at the same time.
+            sortedViews.compareAndSet(index, null, List.copyOf(list));
+            sorted = sortedViews.get(index);
+        }
+        return sorted;
+    }
+}
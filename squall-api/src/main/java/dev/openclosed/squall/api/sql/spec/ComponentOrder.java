@@ -30,7 +30,7 @@ public enum ComponentOrder {
     NAME {
         @Override
         protected Comparator<Component> comparator() {
-            return Comparator.comparing(Component::name);
+            return BY_NAME;
         }
     },
     /** Definition order. */
@@ -46,13 +46,23 @@ public enum ComponentOrder {
         }
     };
 
+    // compares the names directly without a key extractor
+    private static final Comparator<Component> BY_NAME = (a, b) -> a.name().compareTo(b.name());
+
     /**
      * Reorders the components.
+     *
+     * <p>The components held by the specification components, such as the tables in a schema,
+     * are sorted only once for each order, and the returned collection is unmodifiable.</p>
+     *
      * @param components the list of components.
      * @return reordered components.
      * @param <T> the type of the component.
      */
     public <T extends Component> Collection<T> reorder(Collection<T> components) {
+        if (components instanceof ComponentList<T> list) {
+            return list.sortedBy(this);
+        }
         var list = new ArrayList<T>(components);
         Collections.sort(list, comparator());
         return list;
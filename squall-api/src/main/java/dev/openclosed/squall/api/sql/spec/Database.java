@@ -48,8 +48,8 @@ public record Database(
         Objects.requireNonNull(schemas);
         Objects.requireNonNull(annotations);
         Objects.requireNonNull(state);
-        schemas = List.copyOf(schemas);
-        annotations = List.copyOf(annotations);
+        schemas = ComponentList.of(schemas);
+        annotations = AnnotationList.of(annotations);
     }
 
     @Override
@@ -64,6 +64,6 @@ public record Database(
 
     @Override
     public Stream<? extends Component> children(ComponentOrder order) {
-        return order.reorder(schemas().stream());
+        return order.reorder(schemas()).stream();
     }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.openclosed.squall.api.sql.spec;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list of databases which caches the indexes of the components in them.
+ *
+ * <p>The indexes are built on the first lookup.
+ * They may be built more than once when looked up by multiple threads at the same time,
+ * which is harmless because they are immutable.</p>
+ */
+final class DatabaseList extends AbstractList<Database> implements RandomAccess {
+
+    private final List<Database> databases;
+    private volatile SpecIndex index;
+
+    private DatabaseList(List<Database> databases) {
+        this.databases = databases;
+    }
+
+    /**
+     * Returns a list containing the specified databases.
+     * @param databases the databases to contain, must not be {@code null}.
+     * @return the list, which is the argument itself if it is already an instance of this class.
+     */
+    static DatabaseList of(List<Database> databases) {
+        if (databases instanceof DatabaseList list) {
+            return list;
+        }
+        return new DatabaseList(List.copyOf(databases));
+    }
+
+    @Override
+    public Database get(int index) {
+        return databases.get(index);
+    }
+
+    @Override
+    public int size() {
+        return databases.size();
+    }
+
+    /**
+     * Returns the indexes of the components in the databases.
+     * @return the indexes, built on the first call.
+     */
+    SpecIndex index() {
+        SpecIndex current = this.index;
+        if (current == null) {
+            current = SpecIndex.build(databases);
+            this.index = current;
+        }
+        return current;
+    }
+}
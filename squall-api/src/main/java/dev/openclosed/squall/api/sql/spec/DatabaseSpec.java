@@ -25,6 +25,7 @@ import dev.openclosed.squall.api.sql.expression.ObjectRef;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Database design specification.
@@ -44,7 +45,7 @@ public record DatabaseSpec(
     public DatabaseSpec {
         Objects.requireNonNull(databases);
         Objects.requireNonNull(metadata);
-        databases = List.copyOf(databases);
+        databases = DatabaseList.of(databases);
     }
 
     /**
@@ -57,6 +58,113 @@ public record DatabaseSpec(
             databases().stream().forEach(c -> c.accept(visitor));
     }
 
+    /**
+     * Sorts the children of all components in the specified order in advance.
+     *
+     * <p>The children are sorted once for each order and the result is shared by all subsequent walks,
+     * so calling this method is optional.
+     * It is useful before rendering the specification in multiple formats concurrently,
+     * because the schemas are sorted in parallel.</p>
+     *
+     * @param order the order of the children.
+     * @return this specification.
+     */
+    public DatabaseSpec presort(ComponentOrder order) {
+        Objects.requireNonNull(order);
+        databases().stream()
+            .flatMap(database -> order.reorder(database.schemas()).stream())
+            .toList()
+            .parallelStream()
+            .forEach(schema -> {
+                order.reorder(schema.sequences());
+                order.reorder(schema.tables());
+            });
+        return this;
+    }
+
+    /**
+     * Finds a table by its fully qualified name.
+     * @param fullName the name of the table including the parents, as returned by {@link Table#fullName()}.
+     * @return the table found, or empty if there is no such table.
+     */
+    public Optional<Table> findTable(String fullName) {
+        Objects.requireNonNull(fullName);
+        return Optional.ofNullable(index().findTable(fullName));
+    }
+
+    /**
+     * Finds a table by a reference.
+     * @param ref the reference to the table.
+     * @return the table found, or empty if there is no such table.
+     */
+    public Optional<Table> findTable(ObjectRef ref) {
+        Objects.requireNonNull(ref);
+        return findTable(String.join(".", ref.toList()));
+    }
+
+    /**
+     * Finds the table referenced by a foreign key.
+     * @param foreignKey the foreign key referencing the table.
+     * @return the table found, or empty if the referenced table is not defined in this specification.
+     */
+    public Optional<Table> findReferencedTable(ForeignKey foreignKey) {
+        Objects.requireNonNull(foreignKey);
+        return findTable(foreignKey.fullTableName());
+    }
+
+    /**
+     * Finds a sequence by its fully qualified name.
+     * @param fullName the name of the sequence including the parents, as returned by {@link Sequence#fullName()}.
+     * @return the sequence found, or empty if there is no such sequence.
+     */
+    public Optional<Sequence> findSequence(String fullName) {
+        Objects.requireNonNull(fullName);
+        return Optional.ofNullable(index().findSequence(fullName));
+    }
+
+    /**
+     * Finds a sequence by a reference.
+     * @param ref the reference to the sequence.
+     * @return the sequence found, or empty if there is no such sequence.
+     */
+    public Optional<Sequence> findSequence(ObjectRef ref) {
+        Objects.requireNonNull(ref);
+        return findSequence(String.join(".", ref.toList()));
+    }
+
+    /**
+     * Finds a column by its fully qualified name.
+     * @param fullName the name of the column including the table and its parents,
+     *     as returned by {@link Column#fullName()}.
+     * @return the column found, or empty if there is no such column.
+     */
+    public Optional<Column> findColumn(String fullName) {
+        Objects.requireNonNull(fullName);
+        return Optional.ofNullable(index().findColumn(fullName));
+    }
+
+    /**
+     * Finds a column in a table.
+     * @param tableRef the reference to the table containing the column.
+     * @param columnName the name of the column.
+     * @return the column found, or empty if there is no such column.
+     */
+    public Optional<Column> findColumn(ObjectRef tableRef, String columnName) {
+        Objects.requireNonNull(tableRef);
+        Objects.requireNonNull(columnName);
+        return findColumn(String.join(".", tableRef.toList()) + "." + columnName);
+    }
+
+    /**
+     * Returns the foreign keys referencing the specified table.
+     * @param table the referenced table.
+     * @return the immutable list of the foreign keys referencing the table, in the order of definition.
+     */
+    public List<ForeignKeyReference> foreignKeysReferencing(Table table) {
+        Objects.requireNonNull(table);
+        return index().findReferences(table.fullName());
+    }
+
     /**
      * Creates a new builder.
      * @return created builder instance.
@@ -73,6 +181,10 @@ public record DatabaseSpec(
         return EmptyDatabaseSpecBuilder.INSTANCE;
     }
 
+    private SpecIndex index() {
+        return ((DatabaseList) databases).index();
+    }
+
     /**
      * Builder of a database specification.
      */
@@ -289,7 +289,8 @@ abstract class ComponentBuilder {
         this.name = name;
         this.parents = parents;
         this.parentsForChild = concatNameList(parents, name);
-        this.annotations = annotations;
+        // indexes the annotations once, shared by the component built.
+        this.annotations = AnnotationList.of(annotations);
     }
 
     final String name() {
@@ -483,7 +484,7 @@ final class TableBuilder extends ComponentBuilder {
             parents(),
             buildColumns(),
             Optional.ofNullable(primaryKey),
-            foreignKeys,
+            ForeignKeyList.of(foreignKeys),
             unique,
             annotations());
     }
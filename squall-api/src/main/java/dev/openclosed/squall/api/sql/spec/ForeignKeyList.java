@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.openclosed.squall.api.sql.spec;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list of foreign keys indexed by the referencing columns.
+ *
+ * <p>The foreign keys containing each column are found once when the list is created,
+ * so that the lookups by the column do not scan the list.</p>
+ */
+final class ForeignKeyList extends AbstractList<ForeignKey> implements RandomAccess {
+
+    private static final ForeignKeyList EMPTY = new ForeignKeyList(List.of());
+
+    private final List<ForeignKey> foreignKeys;
+    private final Map<String, List<ForeignKey>> byColumn;
+
+    private ForeignKeyList(List<ForeignKey> foreignKeys) {
+        this.foreignKeys = foreignKeys;
+        var map = new HashMap<String, List<ForeignKey>>();
+        for (var foreignKey : foreignKeys) {
+            for (var column : foreignKey.columnMapping().keySet()) {
+                map.computeIfAbsent(column, k -> new ArrayList<>()).add(foreignKey);
+            }
+        }
+        map.replaceAll((column, list) -> List.copyOf(list));
+        this.byColumn = Map.copyOf(map);
+    }
+
+    /**
+     * Returns an indexed list containing the specified foreign keys.
+     * @param foreignKeys the foreign keys to contain, must not be {@code null}.
+     * @return the indexed list, which is the argument itself if it is already indexed.
+     */
+    static ForeignKeyList of(List<ForeignKey> foreignKeys) {
+        if (foreignKeys instanceof ForeignKeyList list) {
+            return list;
+        } else if (foreignKeys.isEmpty()) {
+            return EMPTY;
+        }
+        return new ForeignKeyList(List.copyOf(foreignKeys));
+    }
+
+    @Override
+    public ForeignKey get(int index) {
+        return foreignKeys.get(index);
+    }
+
+    @Override
+    public int size() {
+        return foreignKeys.size();
+    }
+
+    /**
+     * Returns the map from the name of each column to the foreign keys containing it.
+     * @return the immutable map whose values are in the definition order of the foreign keys.
+     */
+    Map<String, List<ForeignKey>> byColumn() {
+        return byColumn;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.openclosed.squall.api.sql.spec;
+
+import java.util.Objects;
+
+/**
+ * Foreign key referencing a table, together with the table having the foreign key.
+ * @param table the referencing table.
+ * @param foreignKey the foreign key defined in the referencing table.
+ */
+public record ForeignKeyReference(Table table, ForeignKey foreignKey) {
+
+    /**
+     * Creates an instance of a {@code ForeignKeyReference} record class.
+     * @param table the referencing table.
+     * @param foreignKey the foreign key defined in the referencing table.
+     */
+    public ForeignKeyReference {
+        Objects.requireNonNull(table);
+        Objects.requireNonNull(foreignKey);
+    }
+}
@@ -57,9 +57,9 @@ public record Schema(
         Objects.requireNonNull(annotations);
         Objects.requireNonNull(state);
         parents = List.copyOf(parents);
-        sequences = List.copyOf(sequences);
-        tables = List.copyOf(tables);
-        annotations = List.copyOf(annotations);
+        sequences = ComponentList.of(sequences);
+        tables = ComponentList.of(tables);
+        annotations = AnnotationList.of(annotations);
     }
 
     @Override
@@ -75,8 +75,8 @@ public record Schema(
     @Override
     public Stream<? extends Component> children(ComponentOrder order) {
         return Stream.concat(
-            order.reorder(sequences().stream()),
-            order.reorder(tables.stream())
+            order.reorder(sequences()).stream(),
+            order.reorder(tables()).stream()
         );
     }
 }
@@ -59,6 +59,7 @@ public record Sequence(
         Objects.requireNonNull(typeName);
         Objects.requireNonNull(annotations);
         parents = List.copyOf(parents);
+        annotations = AnnotationList.of(annotations);
     }
 
     @Override
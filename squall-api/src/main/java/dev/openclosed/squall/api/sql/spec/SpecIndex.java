@@ -0,0 +1,98 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.openclosed.squall.api.sql.spec;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable indexes of the components in a database specification, keyed by their full names.
+ *
+ * <p>The index also holds the foreign keys referencing each table,
+ * that is, the reverse of the foreign keys.</p>
+ */
+final class SpecIndex {
+
+    private final Map<String, Table> tables;
+    private final Map<String, Sequence> sequences;
+    private final Map<String, Column> columns;
+    private final Map<String, List<ForeignKeyReference>> references;
+
+    private SpecIndex(
+        Map<String, Table> tables,
+        Map<String, Sequence> sequences,
+        Map<String, Column> columns,
+        Map<String, List<ForeignKeyReference>> references) {
+        this.tables = tables;
+        this.sequences = sequences;
+        this.columns = columns;
+        this.references = references;
+    }
+
+    /**
+     * Builds the indexes of the databases.
+     * @param databases the databases to index.
+     * @return the built indexes.
+     */
+    static SpecIndex build(List<Database> databases) {
+        var tables = new HashMap<String, Table>();
+        var sequences = new HashMap<String, Sequence>();
+        var columns = new HashMap<String, Column>();
+        var references = new HashMap<String, List<ForeignKeyReference>>();
+        for (var database : databases) {
+            for (var schema : database.schemas()) {
+                for (var sequence : schema.sequences()) {
+                    sequences.putIfAbsent(sequence.fullName(), sequence);
+                }
+                for (var table : schema.tables()) {
+                    tables.putIfAbsent(table.fullName(), table);
+                    for (var column : table.columns()) {
+                        columns.putIfAbsent(column.fullName(), column);
+                    }
+                    for (var foreignKey : table.foreignKeys()) {
+                        references.computeIfAbsent(foreignKey.fullTableName(), k -> new ArrayList<>())
+                            .add(new ForeignKeyReference(table, foreignKey));
+                    }
+                }
+            }
+        }
+        references.replaceAll((name, list) -> List.copyOf(list));
+        return new SpecIndex(
+            Map.copyOf(tables),
+            Map.copyOf(sequences),
+            Map.copyOf(columns),
+            Map.copyOf(references));
+    }
+
+    Table findTable(String fullName) {
+        return tables.get(fullName);
+    }
+
+    Sequence findSequence(String fullName) {
+        return sequences.get(fullName);
+    }
+
+    Column findColumn(String fullName) {
+        return columns.get(fullName);
+    }
+
+    List<ForeignKeyReference> findReferences(String fullTableName) {
+        return references.getOrDefault(fullTableName, List.of());
+    }
+}
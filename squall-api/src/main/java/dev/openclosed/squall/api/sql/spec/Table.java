@@ -19,6 +19,7 @@ package dev.openclosed.squall.api.sql.spec;
 import dev.openclosed.squall.api.sql.annotation.DocAnnotation;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -57,8 +58,9 @@ public record Table(
         Objects.requireNonNull(name);
         parents = List.copyOf(parents);
         columns = List.copyOf(columns);
-        foreignKeys = List.copyOf(foreignKeys);
+        foreignKeys = ForeignKeyList.of(foreignKeys);
         unique = List.copyOf(unique);
+        annotations = AnnotationList.of(annotations);
     }
 
     @Override
@@ -78,7 +80,16 @@ public record Table(
      */
     public Stream<ForeignKey> foreignKeysContaining(String column) {
         Objects.requireNonNull(column);
-        return foreignKeys().stream().filter(fk -> fk.containsKey(column));
+        return foreignKeysByColumn().getOrDefault(column, List.of()).stream();
+    }
+
+    /**
+     * Returns the foreign keys grouped by the columns they contain.
+     * @return the immutable map from the name of each column to the foreign keys containing the column,
+     *     which does not have any entries for the columns not contained in any foreign keys.
+     */
+    public Map<String, List<ForeignKey>> foreignKeysByColumn() {
+        return ((ForeignKeyList) foreignKeys).byColumn();
     }
 
     /**
@@ -18,26 +18,32 @@ package dev.openclosed.squall.api.text;
 
 import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.Pattern;
 
 /**
  * Finder of code fragments.
+ *
+ * <p>The finder extracts only the line containing the location,
+ * using the index of the lines built once for the whole text.</p>
  */
 public class CodeFragmentFinder {
 
-    private static final Pattern LINE_TERMINATOR = Pattern.compile("\n");
-
-    private final CharSequence text;
-    private final String[] split;
+    private final LineIndex lineIndex;
 
     /**
      * Constructs a finder.
      * @param text the whole text of source code.
      */
     public CodeFragmentFinder(CharSequence text) {
-        Objects.requireNonNull(text);
-        this.text = text;
-        this.split = LINE_TERMINATOR.split(text, -1);
+        this(LineIndex.of(text));
+    }
+
+    /**
+     * Constructs a finder with the index of the lines already built.
+     * @param lineIndex the index of the lines in the whole text of source code.
+     */
+    public CodeFragmentFinder(LineIndex lineIndex) {
+        Objects.requireNonNull(lineIndex);
+        this.lineIndex = lineIndex;
     }
 
     /**
@@ -46,17 +52,24 @@ public class CodeFragmentFinder {
      * @return the code found fragment, or empty if not exists.
      */
     public Optional<String> findCode(Location location) {
-        String[] lines = this.split;
-        if (location.offset() < text.length()) {
-            String line = lines[location.lineNo() - 1];
-            String spaces = line.substring(0, location.columnNo() - 1).replaceAll("\\S", " ");
-            return Optional.of(
-                new StringBuilder()
-                    .append(line).append('\n')
-                    .append(spaces).append('^')
-                    .toString());
-        } else {
+        final int lineNo = location.lineNo();
+        if (location.offset() >= lineIndex.length() || lineNo > lineIndex.lineCount()) {
             return Optional.empty();
         }
+        String line = lineIndex.line(lineNo);
+        int column = Math.min(location.columnNo() - 1, line.length());
+        var builder = new StringBuilder(line.length() + column + 2)
+            .append(line).append('\n');
+        // keeps whitespace characters such as tabs to align the caret
+        for (int i = 0; i < column; i++) {
+            char c = line.charAt(i);
+            builder.append(isWhitespace(c) ? c : ' ');
+        }
+        return Optional.of(builder.append('^').toString());
+    }
+
+    // the same characters as \s in regular expressions
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0b || c == '\f' || c == '\r';
     }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.openclosed.squall.api.text;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An index of the lines in a text.
+ *
+ * <p>The index holds only the offsets where the lines start,
+ * which are collected in a single pass over the text.
+ * The line and column of any offset are found by a binary search.</p>
+ */
+public final class LineIndex {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final CharSequence text;
+    // the offsets of the first characters of the lines
+    private final int[] lineStarts;
+    private final int lineCount;
+
+    private LineIndex(CharSequence text, int[] lineStarts, int lineCount) {
+        this.text = text;
+        this.lineStarts = lineStarts;
+        this.lineCount = lineCount;
+    }
+
+    /**
+     * Builds the index of the lines in the text.
+     * @param text the text to index.
+     * @return the index of the lines.
+     */
+    public static LineIndex of(CharSequence text) {
+        Objects.requireNonNull(text);
+        int[] starts = new int[INITIAL_CAPACITY];
+        int count = 1;
+        final int length = text.length();
+        for (int i = 0; i < length; i++) {
+            if (text.charAt(i) == '\n') {
+                if (count == starts.length) {
+                    starts = Arrays.copyOf(starts, count * 2);
+                }
+                starts[count++] = i + 1;
+            }
+        }
+        return new LineIndex(text, starts, count);
+    }
+
+    /**
+     * Returns the length of the indexed text.
+     * @return the length of the text.
+     */
+    public int length() {
+        return this.text.length();
+    }
+
+    /**
+     * Returns the number of the lines.
+     * The text which ends with a line terminator has an empty line at the end.
+     * @return the number of the lines, at least one.
+     */
+    public int lineCount() {
+        return this.lineCount;
+    }
+
+    /**
+     * Returns the offset where the specified line starts.
+     * @param lineNo the line number, starting from 1.
+     * @return the offset of the first character of the line.
+     * @throws IndexOutOfBoundsException if the line does not exist.
+     */
+    public int lineStart(int lineNo) {
+        Objects.checkIndex(lineNo - 1, this.lineCount);
+        return this.lineStarts[lineNo - 1];
+    }
+
+    /**
+     * Returns the offset where the specified line ends, excluding the line terminator.
+     * @param lineNo the line number, starting from 1.
+     * @return the offset next to the last character of the line.
+     * @throws IndexOutOfBoundsException if the line does not exist.
+     */
+    public int lineEnd(int lineNo) {
+        Objects.checkIndex(lineNo - 1, this.lineCount);
+        return (lineNo < this.lineCount) ? this.lineStarts[lineNo] - 1 : this.text.length();
+    }
+
+    /**
+     * Returns the content of the specified line, excluding the line terminator.
+     * @param lineNo the line number, starting from 1.
+     * @return the content of the line.
+     * @throws IndexOutOfBoundsException if the line does not exist.
+     */
+    public String line(int lineNo) {
+        return this.text.subSequence(lineStart(lineNo), lineEnd(lineNo)).toString();
+    }
+
+    /**
+     * Returns the number of the line containing the specified offset.
+     * @param offset the offset in characters, starting from 0.
+     * @return the line number, starting from 1.
+     * @throws IndexOutOfBoundsException if the offset is out of the text.
+     */
+    public int lineNoAt(int offset) {
+        Objects.checkIndex(offset, this.text.length() + 1);
+        int found = Arrays.binarySearch(this.lineStarts, 0, this.lineCount, offset);
+        return (found >= 0) ? found + 1 : -found - 1;
+    }
+
+    /**
+     * Returns the location of the specified offset.
+     * @param offset the offset in characters, starting from 0.
+     * @return the location including the line and column numbers.
+     * @throws IndexOutOfBoundsException if the offset is out of the text.
+     */
+    public Location locationAt(int offset) {
+        int lineNo = lineNoAt(offset);
+        return new Location(lineNo, offset - this.lineStarts[lineNo - 1] + 1, offset);
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.openclosed.squall.api.text;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A text backed by a memory-mapped file encoded in UTF-8.
+ *
+ * <p>The content of the file is decoded lazily chunk by chunk,
+ * and only the most recently accessed chunk is kept in the heap.
+ * When the file contains only ASCII characters, the bytes are read directly without decoding.</p>
+ *
+ * <p>Instances of this class are not safe for use by multiple threads.</p>
+ */
+public final class MappedText implements CharSequence {
+
+    /**
+     * Files smaller than this size are read entirely into the heap by {@link #read(Path)}.
+     */
+    public static final long MAPPING_THRESHOLD = 1024 * 1024;
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+    // the maximum number of bytes of a character in UTF-8
+    private static final int MAX_BYTES_PER_CHAR = 4;
+
+    private final ByteBuffer bytes;
+    private final int length;
+    private final boolean ascii;
+
+    // the byte offset and the char offset of each chunk, followed by those of the end of the text
+    private final int[] chunkByteOffsets;
+    private final int[] chunkCharOffsets;
+    private final int chunks;
+
+    private final CharsetDecoder decoder;
+    private final char[] decoded = new char[CHUNK_SIZE];
+    private int decodedChunk;
+
+    private MappedText(ByteBuffer bytes) throws IOException {
+        this.bytes = bytes;
+        this.decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPORT)
+            .onUnmappableCharacter(CodingErrorAction.REPORT);
+
+        final int size = bytes.limit();
+        final int maxChunks = size / (CHUNK_SIZE - MAX_BYTES_PER_CHAR) + 2;
+        this.chunkByteOffsets = new int[maxChunks];
+        this.chunkCharOffsets = new int[maxChunks];
+
+        // decodes the whole text once to validate it and to build the index of the chunks.
+        int chunk = 0;
+        int byteOffset = 0;
+        int charOffset = 0;
+        while (byteOffset < size) {
+            int end = findChunkEnd(byteOffset);
+            this.chunkByteOffsets[chunk] = byteOffset;
+            this.chunkCharOffsets[chunk] = charOffset;
+            charOffset += decode(byteOffset, end);
+            byteOffset = end;
+            chunk++;
+        }
+        this.chunkByteOffsets[chunk] = size;
+        this.chunkCharOffsets[chunk] = charOffset;
+        this.chunks = chunk;
+        this.length = charOffset;
+        this.ascii = (charOffset == size);
+        this.decodedChunk = (chunk > 0) ? chunk - 1 : -1;
+    }
+
+    /**
+     * Reads the content of a text file encoded in UTF-8.
+     * Small files are read into a string, and large files are mapped into memory.
+     * @param path the path to the file.
+     * @return the content of the file.
+     * @throws IOException if an I/O error has occurred while reading the file,
+     *     or the file is not a valid UTF-8 text.
+     */
+    public static CharSequence read(Path path) throws IOException {
+        Objects.requireNonNull(path);
+        if (Files.size(path) < MAPPING_THRESHOLD) {
+            return Files.readString(path);
+        }
+        return map(path);
+    }
+
+    /**
+     * Maps a text file encoded in UTF-8 into memory.
+     * @param path the path to the file.
+     * @return the text backed by the mapped file.
+     * @throws IOException if an I/O error has occurred while mapping the file,
+     *     or the file is not a valid UTF-8 text.
+     */
+    public static MappedText map(Path path) throws IOException {
+        Objects.requireNonNull(path);
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File is too large to map: " + path);
+            }
+            // the mapping remains valid after the channel is closed.
+            return new MappedText(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
+    @Override
+    public int length() {
+        return this.length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        Objects.checkIndex(index, this.length);
+        if (this.ascii) {
+            return (char) this.bytes.get(index);
+        }
+        int chunk = this.decodedChunk;
+        if (index < this.chunkCharOffsets[chunk] || index >= this.chunkCharOffsets[chunk + 1]) {
+            chunk = findChunk(index);
+            decodeChunk(chunk);
+        }
+        return this.decoded[index - this.chunkCharOffsets[chunk]];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        Objects.checkFromToIndex(start, end, this.length);
+        if (this.ascii) {
+            byte[] copied = new byte[end - start];
+            this.bytes.get(start, copied);
+            return new String(copied, StandardCharsets.US_ASCII);
+        }
+        var builder = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            builder.append(charAt(i));
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return subSequence(0, this.length).toString();
+    }
+
+    // Finds the end of the chunk, which must not split a multibyte character.
+    private int findChunkEnd(int start) {
+        final int size = this.bytes.limit();
+        if (size - start <= CHUNK_SIZE) {
+            return size;
+        }
+        int end = start + CHUNK_SIZE;
+        for (int i = 1; i < MAX_BYTES_PER_CHAR && isContinuationByte(this.bytes.get(end)); i++) {
+            end--;
+        }
+        return end;
+    }
+
+    private static boolean isContinuationByte(byte b) {
+        return (b & 0xc0) == 0x80;
+    }
+
+    private int findChunk(int index) {
+        int found = Arrays.binarySearch(this.chunkCharOffsets, 0, this.chunks, index);
+        return (found >= 0) ? found : -found - 2;
+    }
+
+    private void decodeChunk(int chunk) {
+        try {
+            decode(this.chunkByteOffsets[chunk], this.chunkByteOffsets[chunk + 1]);
+        } catch (IOException e) {
+            // the whole text was already validated.
+            throw new IllegalStateException(e);
+        }
+        this.decodedChunk = chunk;
+    }
+
+    // Decodes the bytes into the buffer and returns the number of the decoded chars.
+    private int decode(int start, int end) throws IOException {
+        ByteBuffer in = this.bytes.slice(start, end - start);
+        CharBuffer out = CharBuffer.wrap(this.decoded);
+        this.decoder.reset();
+        CoderResult result = this.decoder.decode(in, out, true);
+        if (result.isError()) {
+            result.throwException();
+        }
+        result = this.decoder.flush(out);
+        if (result.isError()) {
+            result.throwException();
+        }
+        return out.position();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.openclosed.squall.api.util;
+
+import dev.openclosed.squall.api.text.json.Property;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+
+/**
+ * The components of a record class converted into properties of a map.
+ *
+ * <p>The metadata is built once for each record class,
+ * and the accessors of the components are bound as method handles.</p>
+ */
+final class RecordMetadata {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Record.class);
+
+    private static final ClassValue<RecordMetadata> CACHE = new ClassValue<>() {
+        @Override
+        protected RecordMetadata computeValue(Class<?> type) {
+            return new RecordMetadata(type);
+        }
+    };
+
+    private final List<PropertyAccessor> properties;
+
+    private RecordMetadata(Class<?> recordClass) {
+        var lookup = MethodHandles.lookup();
+        var components = recordClass.getRecordComponents();
+        var accessors = new PropertyAccessor[components.length];
+        try {
+            for (int i = 0; i < components.length; i++) {
+                var component = components[i];
+                var prop = component.getAnnotation(Property.class);
+                var accessor = component.getAccessor();
+                accessor.setAccessible(true);
+                accessors[i] = new PropertyAccessor(
+                    (prop != null) ? prop.value() : component.getName(),
+                    prop != null && !prop.omit(),
+                    lookup.unreflect(accessor).asType(GETTER_TYPE));
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+        this.properties = List.of(accessors);
+    }
+
+    /**
+     * Returns the metadata of the specified record class.
+     * @param recordClass the record class.
+     * @return the metadata of the record class, cached for each class.
+     */
+    static RecordMetadata of(Class<? extends Record> recordClass) {
+        return CACHE.get(recordClass);
+    }
+
+    /**
+     * Returns the accessors of the properties in the order of the record components.
+     * @return the accessors of the properties.
+     */
+    List<PropertyAccessor> properties() {
+        return properties;
+    }
+
+    /**
+     * Accessor of a property backed by a record component.
+     * @param name the name of the property.
+     * @param required {@code true} if the property must not be omitted.
+     * @param getter the method handle of the accessor, of the type {@code (Record)Object}.
+     */
+    record PropertyAccessor(String name, boolean required, MethodHandle getter) {
+
+        /**
+         * Returns the value of the component.
+         * @param rec the record having the component.
+         * @return the value of the component.
+         */
+        Object get(Record rec) {
+            try {
+                return (Object) getter.invokeExact(rec);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
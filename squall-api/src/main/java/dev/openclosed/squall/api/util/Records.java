@@ -18,6 +18,7 @@ package dev.openclosed.squall.api.util;
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 
 /**
  * Utility class for record classes.
@@ -52,6 +53,31 @@ public final class Records {
         return (Map<String, Object>) TypeConverter.RECORD.convert(rec);
     }
 
+    /**
+     * Converts an object recursively into the value found in the map returned by {@link #toMap(Object)}.
+     * @param object the object to convert, may be {@code null}.
+     * @return the converted value, such as a map, a list, a string, or a number.
+     */
+    public static Object toValue(Object object) {
+        return TypeConverter.convertUnknown(object);
+    }
+
+    /**
+     * Performs the given action for each property of a record, without converting the property values.
+     *
+     * <p>The properties are the same as the entries of the map returned by {@link #toMap(Record)},
+     * and are given in the same order.
+     * Each value passed to the action can be converted by {@link #toValue(Object)}.</p>
+     *
+     * @param rec the record whose properties are iterated.
+     * @param action the action receiving the name and the original value of each property.
+     */
+    public static void forEachProperty(Record rec, BiConsumer<String, Object> action) {
+        Objects.requireNonNull(rec);
+        Objects.requireNonNull(action);
+        TypeConverter.forEachProperty(rec, action);
+    }
+
     private Records() {
     }
 }
@@ -17,7 +17,6 @@
 package dev.openclosed.squall.api.util;
 
 import dev.openclosed.squall.api.sql.annotation.DocAnnotation;
-import dev.openclosed.squall.api.text.json.Property;
 import dev.openclosed.squall.api.sql.expression.Expression;
 
 import java.util.Collection;
@@ -27,12 +26,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.function.BiConsumer;
 
 enum TypeConverter {
     LONG {
         @Override
-        boolean isTypeOf(Object value) {
-            return value instanceof Long;
+        boolean isTypeOf(Class<?> type) {
+            return type == Long.class;
         }
 
         @Override
@@ -47,8 +47,8 @@ enum TypeConverter {
     },
     ENUM {
         @Override
-        boolean isTypeOf(Object value) {
-            return value instanceof Enum<?>;
+        boolean isTypeOf(Class<?> type) {
+            return Enum.class.isAssignableFrom(type);
         }
 
         @Override
@@ -58,8 +58,8 @@ enum TypeConverter {
     },
     OPTIONAL {
         @Override
-        boolean isTypeOf(Object value) {
-            return value instanceof Optional<?>;
+        boolean isTypeOf(Class<?> type) {
+            return type == Optional.class;
         }
 
         @Override
@@ -71,8 +71,8 @@ enum TypeConverter {
     },
     OPTIONAL_INT {
         @Override
-        boolean isTypeOf(Object value) {
-            return value instanceof OptionalInt;
+        boolean isTypeOf(Class<?> type) {
+            return type == OptionalInt.class;
         }
 
         @Override
@@ -87,8 +87,8 @@ enum TypeConverter {
     },
     MAP {
         @Override
-        boolean isTypeOf(Object value) {
-            return value instanceof Map<?, ?>;
+        boolean isTypeOf(Class<?> type) {
+            return Map.class.isAssignableFrom(type);
         }
 
         @Override
@@ -109,8 +109,8 @@ enum TypeConverter {
     },
     COLLECTION {
         @Override
-        boolean isTypeOf(Object value) {
-            return value instanceof Collection<?>;
+        boolean isTypeOf(Class<?> type) {
+            return Collection.class.isAssignableFrom(type);
         }
 
         @Override
@@ -121,8 +121,8 @@ enum TypeConverter {
     },
     EXPRESSION {
         @Override
-        boolean isTypeOf(Object value) {
-            return value instanceof Expression;
+        boolean isTypeOf(Class<?> type) {
+            return Expression.class.isAssignableFrom(type);
         }
 
         @Override
@@ -138,8 +138,8 @@ enum TypeConverter {
     },
     DOC_ANNOTATION {
         @Override
-        boolean isTypeOf(Object value) {
-            return value instanceof DocAnnotation;
+        boolean isTypeOf(Class<?> type) {
+            return DocAnnotation.class.isAssignableFrom(type);
         }
 
         @Override
@@ -155,8 +155,8 @@ enum TypeConverter {
     },
     RECORD {
         @Override
-        boolean isTypeOf(Object value) {
-            return value instanceof Record;
+        boolean isTypeOf(Class<?> type) {
+            return Record.class.isAssignableFrom(type);
         }
 
         Map<String, Object> convert(Object value) {
@@ -164,11 +164,31 @@ enum TypeConverter {
             convertRecordToMap((Record) value, map);
             return Collections.unmodifiableMap(map);
         }
+    },
+    // any other type, which is not converted
+    OTHER {
+        @Override
+        boolean isTypeOf(Class<?> type) {
+            return true;
+        }
     };
 
     static final List<TypeConverter> CONVERTERS = List.of(values());
 
-    boolean isTypeOf(Object value) {
+    // the converter of each class, which is the first one accepting the class
+    private static final ClassValue<TypeConverter> CONVERTER_FOR_CLASS = new ClassValue<>() {
+        @Override
+        protected TypeConverter computeValue(Class<?> type) {
+            for (var converter : CONVERTERS) {
+                if (converter.isTypeOf(type)) {
+                    return converter;
+                }
+            }
+            return OTHER;
+        }
+    };
+
+    boolean isTypeOf(Class<?> type) {
         return false;
     }
 
@@ -180,12 +200,7 @@ enum TypeConverter {
         if (value == null) {
             return null;
         }
-        for (var converter : CONVERTERS) {
-            if (converter.isTypeOf(value)) {
-                return converter.convert(value);
-            }
-        }
-        return value;
+        return CONVERTER_FOR_CLASS.get(value.getClass()).convert(value);
     }
 
     static boolean shouldInclude(Object value) {
@@ -201,21 +216,32 @@ enum TypeConverter {
 
     // For record
 
+    // Passes the properties to be included in the converted map, before conversion.
+    static void forEachProperty(Record rec, BiConsumer<String, Object> action) {
+        for (var property : RecordMetadata.of(rec.getClass()).properties()) {
+            var original = property.get(rec);
+            if (property.required() || shouldIncludeOriginal(original)) {
+                action.accept(property.name(), original);
+            }
+        }
+    }
+
+    // Decides the same as shouldInclude() does for the converted value.
+    private static boolean shouldIncludeOriginal(Object value) {
+        if (value instanceof Optional<?> optional) {
+            return optional.isPresent() && shouldIncludeOriginal(optional.get());
+        } else if (value instanceof OptionalInt optional) {
+            return optional.isPresent();
+        }
+        return shouldInclude(value);
+    }
+
     static void convertRecordToMap(Record rec, Map<String, Object> newMap) {
-        try {
-            for (var component : rec.getClass().getRecordComponents()) {
-                var prop = component.getAnnotation(Property.class);
-                var accessor = component.getAccessor();
-                accessor.setAccessible(true);
-                var original = accessor.invoke(rec);
-                var converted = convertUnknown(original);
-                if ((prop != null && !prop.omit()) || shouldInclude(converted)) {
-                    String propertyName = (prop != null) ? prop.value() : component.getName();
-                    newMap.put(propertyName, converted);
-                }
+        for (var property : RecordMetadata.of(rec.getClass()).properties()) {
+            var converted = convertUnknown(property.get(rec));
+            if (property.required() || shouldInclude(converted)) {
+                newMap.put(property.name(), converted);
             }
-        } catch (ReflectiveOperationException e) {
-            throw new RuntimeException(e);
         }
     }
 }
@@ -25,6 +25,7 @@ module dev.openclosed.squall.api {
     exports dev.openclosed.squall.api.parser;
     exports dev.openclosed.squall.api.renderer;
     exports dev.openclosed.squall.api.sql.spec;
+    exports dev.openclosed.squall.api.sql.snapshot;
     exports dev.openclosed.squall.api.sql.datatype;
     exports dev.openclosed.squall.api.sql.expression;
     exports dev.openclosed.squall.api.util;
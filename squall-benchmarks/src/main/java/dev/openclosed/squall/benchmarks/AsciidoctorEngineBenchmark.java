@@ -0,0 +1,97 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.openclosed.squall.benchmarks;
+
+import dev.openclosed.squall.api.config.ConfigLoader;
+import dev.openclosed.squall.api.renderer.RendererFactory;
+import dev.openclosed.squall.api.renderer.TextRenderer;
+import dev.openclosed.squall.renderer.asciidoc.AsciidoctorPool;
+import org.asciidoctor.Asciidoctor;
+import org.asciidoctor.Options;
+import org.asciidoctor.SafeMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the time to convert an AsciiDoc document into HTML
+ * with a cold Asciidoctor engine created for each conversion
+ * and with a warm engine borrowed from {@link AsciidoctorPool}.
+ *
+ * <p>Each invocation is measured alone, because booting an engine takes seconds.</p>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AsciidoctorEngineBenchmark {
+
+    @Param({"100"})
+    private int tables;
+
+    @Param({"10"})
+    private int columns;
+
+    private String document;
+    private Options options;
+
+    @Setup
+    public void setUp() {
+        var spec = SpecBuilderBenchmark.parse(new DdlGenerator(this.tables, this.columns).generate()).build();
+        var config = ConfigLoader.newLoader().loadRenderConfigFromJson("{\"format\": \"asciidoc\"}");
+        var renderer = (TextRenderer) RendererFactory.newInstance("asciidoc").createRenderer(config);
+        this.document = renderer.renderToString(spec);
+        this.options = Options.builder()
+            .backend("html5")
+            .safe(SafeMode.UNSAFE)
+            .toFile(false)
+            .build();
+    }
+
+    @Benchmark
+    public String convertWithColdEngine() {
+        try (var asciidoctor = Asciidoctor.Factory.create()) {
+            return asciidoctor.convert(this.document, this.options);
+        }
+    }
+
+    @Benchmark
+    public String convertWithWarmEngine() {
+        return AsciidoctorPool.getInstance().apply(asciidoctor -> asciidoctor.convert(this.document, this.options));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        var options = new OptionsBuilder()
+            .include(AsciidoctorEngineBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.openclosed.squall.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A generator of DDL for PostgreSQL which resembles real-world schemas.
+ *
+ * <p>The generated DDL contains schemas, sequences and tables with doc comments,
+ * columns of various data types, primary keys, unique constraints,
+ * foreign keys added by {@code ALTER TABLE}, and optionally {@code INSERT} statements.
+ * The output is determined only by the parameters, so that the results of benchmarks are comparable.</p>
+ *
+ * @param tables the number of the tables.
+ * @param columnsPerTable the number of the columns in each table.
+ * @param rowsPerTable the number of the rows inserted into each table.
+ * @param seed the seed of the random numbers.
+ */
+public record DdlGenerator(int tables, int columnsPerTable, int rowsPerTable, long seed) {
+
+    /**
+     * The seed used when no seed is specified.
+     */
+    public static final long DEFAULT_SEED = 42;
+
+    // the number of the tables in a schema
+    private static final int TABLES_PER_SCHEMA = 50;
+
+    private static final List<String> DATA_TYPES = List.of(
+        "integer",
+        "bigint",
+        "smallint",
+        "varchar(%d)",
+        "character varying(%d)",
+        "char(%d)",
+        "text",
+        "numeric(%d, 2)",
+        "boolean",
+        "date",
+        "timestamp",
+        "timestamp with time zone",
+        "double precision",
+        "uuid",
+        "jsonb",
+        "bytea"
+    );
+
+    private static final List<String> WORDS = List.of(
+        "account", "address", "amount", "balance", "category", "code", "comment", "country",
+        "customer", "date", "description", "email", "flag", "item", "level", "name",
+        "note", "order", "owner", "payment", "phone", "price", "quantity", "rank",
+        "region", "score", "status", "tag", "title", "total", "type", "value"
+    );
+
+    /**
+     * Constructs a generator.
+     * @param tables the number of the tables.
+     * @param columnsPerTable the number of the columns in each table.
+     * @param rowsPerTable the number of the rows inserted into each table.
+     * @param seed the seed of the random numbers.
+     */
+    public DdlGenerator {
+        if (tables < 1 || columnsPerTable < 2 || rowsPerTable < 0) {
+            throw new IllegalArgumentException("Invalid size of DDL");
+        }
+    }
+
+    /**
+     * Constructs a generator without any rows.
+     * @param tables the number of the tables.
+     * @param columnsPerTable the number of the columns in each table.
+     */
+    public DdlGenerator(int tables, int columnsPerTable) {
+        this(tables, columnsPerTable, 0, DEFAULT_SEED);
+    }
+
+    /**
+     * Generates the DDL.
+     * @return the generated DDL.
+     */
+    public String generate() {
+        var builder = new StringBuilder();
+        var random = new Random(seed);
+        for (int table = 0; table < tables; table++) {
+            if (table % TABLES_PER_SCHEMA == 0) {
+                appendSchema(builder, table / TABLES_PER_SCHEMA);
+            }
+            appendTable(builder, table, random);
+        }
+        for (int table = 1; table < tables; table++) {
+            appendForeignKey(builder, table, random);
+        }
+        for (int table = 0; table < tables; table++) {
+            appendRows(builder, table, random);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Writes the generated DDL to a file.
+     * @param path the path to the file.
+     * @throws IOException if an I/O error has occurred while writing the file.
+     */
+    public void writeTo(Path path) throws IOException {
+        Files.writeString(path, generate());
+    }
+
+    /**
+     * Generates a DDL file.
+     * @param args the path to the file, the number of the tables,
+     *     and optionally the number of the columns in each table and the number of the rows.
+     * @throws IOException if an I/O error has occurred while writing the file.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: DdlGenerator <file> <tables> [<columns per table> [<rows per table>]]");
+            System.exit(1);
+        }
+        int tables = Integer.parseInt(args[1]);
+        int columns = (args.length > 2) ? Integer.parseInt(args[2]) : 10;
+        int rows = (args.length > 3) ? Integer.parseInt(args[3]) : 0;
+        new DdlGenerator(tables, columns, rows, DEFAULT_SEED).writeTo(Path.of(args[0]));
+    }
+
+    private static String schemaName(int table) {
+        return "schema_" + (table / TABLES_PER_SCHEMA);
+    }
+
+    private static String tableName(int table) {
+        return schemaName(table) + ".table_" + table;
+    }
+
+    private static void appendSchema(StringBuilder builder, int schema) {
+        builder.append("""
+            /**
+             * Schema number %1$d.
+             * @label Schema %1$d
+             */
+            CREATE SCHEMA schema_%1$d;
+
+            """.formatted(schema));
+    }
+
+    private void appendTable(StringBuilder builder, int table, Random random) {
+        String name = tableName(table);
+        builder.append("""
+            /**
+             * A sequence for table number %2$d.
+             */
+            CREATE SEQUENCE %1$s_id_seq AS bigint START WITH 1 INCREMENT BY 1;
+
+            /**
+             * Table number %2$d, which holds %3$s records.
+             * The records are %4$s.
+             * @label %3$s %2$d
+             """.formatted(name, table, word(random), word(random)));
+        if (random.nextInt(10) == 0) {
+            builder.append(" * @since 1.").append(random.nextInt(10)).append('\n');
+        }
+        if (random.nextInt(20) == 0) {
+            builder.append(" * @deprecated Use table_").append(table + 1).append(" instead.\n");
+        }
+        builder.append(" */\n")
+            .append("CREATE TABLE ").append(name).append(" (\n");
+        builder.append("""
+              /**
+               * The identifier of the record.
+               * @label ID
+               */
+              id bigint NOT NULL DEFAULT nextval('%s_id_seq'),
+            """.formatted(name));
+        // parent_id takes the place of column_1 except in the first table.
+        int firstColumn = 1;
+        if (table > 0) {
+            builder.append("  parent_id bigint,\n");
+            firstColumn = 2;
+        }
+        for (int column = firstColumn; column < columnsPerTable; column++) {
+            appendColumn(builder, column, random);
+        }
+        builder.append("  PRIMARY KEY (id)");
+        if (columnsPerTable > 2) {
+            builder.append(",\n  UNIQUE (id, column_2)");
+        }
+        builder.append("\n);\n\n");
+    }
+
+    private static void appendColumn(StringBuilder builder, int column, Random random) {
+        if (random.nextBoolean()) {
+            builder.append("""
+                  /**
+                   * The %1$s of the %2$s.
+                   * @label %1$s %3$d
+                   */
+                """.formatted(word(random), word(random), column));
+        }
+        builder.append("  column_").append(column).append(' ').append(dataType(random));
+        switch (random.nextInt(4)) {
+            case 0 -> builder.append(" NOT NULL");
+            case 1 -> builder.append(" DEFAULT NULL");
+            default -> { }
+        }
+        builder.append(",\n");
+    }
+
+    private static void appendForeignKey(StringBuilder builder, int table, Random random) {
+        int referenced = random.nextInt(table);
+        builder.append("""
+            ALTER TABLE %1$s
+              ADD CONSTRAINT fk_table_%2$d_parent FOREIGN KEY (parent_id) REFERENCES %3$s (id);
+
+            """.formatted(tableName(table), table, tableName(referenced)));
+    }
+
+    private void appendRows(StringBuilder builder, int table, Random random) {
+        for (int row = 0; row < rowsPerTable; row++) {
+            builder.append("INSERT INTO ").append(tableName(table))
+                .append(" (id) VALUES (").append(row + 1).append("); -- ")
+                .append(word(random)).append('\n');
+        }
+    }
+
+    private static String dataType(Random random) {
+        String type = DATA_TYPES.get(random.nextInt(DATA_TYPES.size()));
+        return type.contains("%d") ? type.formatted(8 + random.nextInt(248)) : type;
+    }
+
+    private static String word(Random random) {
+        return WORDS.get(random.nextInt(WORDS.size()));
+    }
+}
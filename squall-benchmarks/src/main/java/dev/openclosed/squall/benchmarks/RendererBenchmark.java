@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.openclosed.squall.benchmarks;
+
+import dev.openclosed.squall.api.config.ConfigLoader;
+import dev.openclosed.squall.api.renderer.RendererFactory;
+import dev.openclosed.squall.api.renderer.TextRenderer;
+import dev.openclosed.squall.api.sql.spec.DatabaseSpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to render a database specification into a string in each text format.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RendererBenchmark {
+
+    @Param({"markdown", "asciidoc", "json"})
+    private String format;
+
+    @Param({"100", "1000"})
+    private int tables;
+
+    @Param({"10"})
+    private int columns;
+
+    private DatabaseSpec spec;
+    private TextRenderer renderer;
+
+    @Setup
+    public void setUp() {
+        this.spec = SpecBuilderBenchmark.parse(new DdlGenerator(this.tables, this.columns).generate()).build();
+        var config = ConfigLoader.newLoader().loadRenderConfigFromJson(
+            "{\"format\": \"%s\"}".formatted(this.format));
+        this.renderer = (TextRenderer) RendererFactory.newInstance(this.format).createRenderer(config);
+    }
+
+    @Benchmark
+    public String renderToString() {
+        return this.renderer.renderToString(this.spec);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        var options = new OptionsBuilder()
+            .include(RendererBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
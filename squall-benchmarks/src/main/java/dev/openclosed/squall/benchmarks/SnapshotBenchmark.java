@@ -0,0 +1,107 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.openclosed.squall.benchmarks;
+
+import dev.openclosed.squall.api.parser.CommentProcessor;
+import dev.openclosed.squall.api.parser.MessageBundle;
+import dev.openclosed.squall.api.parser.ParserConfig;
+import dev.openclosed.squall.api.parser.SqlParserFactory;
+import dev.openclosed.squall.api.sql.snapshot.SnapshotFormatException;
+import dev.openclosed.squall.api.sql.snapshot.SpecSnapshot;
+import dev.openclosed.squall.api.sql.spec.DatabaseSpec;
+import dev.openclosed.squall.api.sql.spec.Dialect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the time to load the spec from a snapshot with the time to parse the DDL again.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SnapshotBenchmark {
+
+    @Param({"100", "1000"})
+    private int tables;
+
+    @Param({"10"})
+    private int columns;
+
+    private String text;
+    private DatabaseSpec spec;
+    private byte[] snapshot;
+    private SqlParserFactory factory;
+    private MessageBundle messageBundle;
+
+    @Setup
+    public void setUp() {
+        var generator = new DdlGenerator(this.tables, this.columns, 0, DdlGenerator.DEFAULT_SEED);
+        this.text = generator.generate();
+        this.factory = SqlParserFactory.newInstance(Dialect.POSTGRESQL);
+        this.messageBundle = MessageBundle.forLocale(Locale.ENGLISH);
+        this.spec = parse();
+        this.snapshot = SpecSnapshot.toBytes(this.spec);
+    }
+
+    @Benchmark
+    public DatabaseSpec parse() {
+        var builder = DatabaseSpec.builder();
+        var parser = this.factory.createParser(
+            ParserConfig.DEFAULT,
+            builder,
+            CommentProcessor.newDocCommentProcessor(),
+            this.messageBundle);
+        parser.parse(this.text);
+        return builder.build();
+    }
+
+    @Benchmark
+    public DatabaseSpec load() throws SnapshotFormatException {
+        return SpecSnapshot.fromBytes(this.snapshot);
+    }
+
+    @Benchmark
+    public byte[] save() {
+        return SpecSnapshot.toBytes(this.spec);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        var options = new OptionsBuilder()
+            .include(SnapshotBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.openclosed.squall.benchmarks;
+
+import dev.openclosed.squall.api.parser.CommentProcessor;
+import dev.openclosed.squall.api.parser.ParserConfig;
+import dev.openclosed.squall.api.parser.SqlParserFactory;
+import dev.openclosed.squall.api.sql.spec.DatabaseSpec;
+import dev.openclosed.squall.api.sql.spec.Dialect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to build a database specification from the parsed DDL.
+ *
+ * <p>The DDL is parsed only once in the setup, and the builder is built repeatedly.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpecBuilderBenchmark {
+
+    @Param({"100", "1000"})
+    private int tables;
+
+    @Param({"10"})
+    private int columns;
+
+    private DatabaseSpec.Builder builder;
+
+    @Setup
+    public void setUp() {
+        this.builder = parse(new DdlGenerator(this.tables, this.columns).generate());
+    }
+
+    @Benchmark
+    public DatabaseSpec build() {
+        return this.builder.build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        var options = new OptionsBuilder()
+            .include(SpecBuilderBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+
+    /**
+     * Parses the DDL into a builder of a database specification.
+     * @param text the DDL to parse.
+     * @return the builder holding the parsed objects.
+     */
+    static DatabaseSpec.Builder parse(String text) {
+        var builder = DatabaseSpec.builder();
+        var parser = SqlParserFactory.newInstance(Dialect.POSTGRESQL).createParser(
+            ParserConfig.DEFAULT,
+            builder,
+            CommentProcessor.newDocCommentProcessor());
+        parser.parse(text);
+        return builder;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.openclosed.squall.benchmarks;
+
+import dev.openclosed.squall.api.config.ConfigLoader;
+import dev.openclosed.squall.api.renderer.RendererFactory;
+import dev.openclosed.squall.api.renderer.TextRenderer;
+import dev.openclosed.squall.api.sql.spec.Column;
+import dev.openclosed.squall.api.sql.spec.DatabaseSpec;
+import dev.openclosed.squall.api.sql.spec.ForeignKey;
+import dev.openclosed.squall.api.sql.spec.Table;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the lookups of the foreign keys by column on a synthetic wide table,
+ * such as a fact table having hundreds of columns and dozens of foreign keys.
+ *
+ * <p>{@link #scanForeignKeys(Blackhole)} filters all the foreign keys for each column,
+ * and serves as the baseline of the index used by {@link #lookupForeignKeys(Blackhole)}.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WideTableBenchmark {
+
+    @Param({"300"})
+    private int columns;
+
+    @Param({"10", "50"})
+    private int foreignKeys;
+
+    private DatabaseSpec spec;
+    private Table table;
+    private TextRenderer renderer;
+
+    @Setup
+    public void setUp() {
+        this.spec = SpecBuilderBenchmark.parse(generate()).build();
+        this.table = this.spec.databases().get(0).schemas().get(0).tables().stream()
+            .filter(t -> t.name().equals("fact"))
+            .findFirst()
+            .orElseThrow();
+        var config = ConfigLoader.newLoader().loadRenderConfigFromJson("{\"format\": \"markdown\"}");
+        this.renderer = (TextRenderer) RendererFactory.newInstance("markdown").createRenderer(config);
+    }
+
+    @Benchmark
+    public void lookupForeignKeys(Blackhole blackhole) {
+        var byColumn = this.table.foreignKeysByColumn();
+        for (Column column : this.table.columns()) {
+            blackhole.consume(byColumn.getOrDefault(column.name(), List.of()));
+        }
+    }
+
+    @Benchmark
+    public void scanForeignKeys(Blackhole blackhole) {
+        for (Column column : this.table.columns()) {
+            String name = column.name();
+            List<ForeignKey> found = this.table.foreignKeys().stream()
+                .filter(fk -> fk.containsKey(name))
+                .toList();
+            blackhole.consume(found);
+        }
+    }
+
+    @Benchmark
+    public String renderMarkdown() {
+        return this.renderer.renderToString(this.spec);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        var options = new OptionsBuilder()
+            .include(WideTableBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+
+    // Generates the DDL of the fact table and the tables referenced by its foreign keys.
+    private String generate() {
+        var builder = new StringBuilder();
+        for (int i = 0; i < this.foreignKeys; i++) {
+            builder.append("CREATE TABLE dim_").append(i).append(" (id integer PRIMARY KEY);\n");
+        }
+        builder.append("CREATE TABLE fact (\n");
+        for (int i = 0; i < this.columns; i++) {
+            builder.append("  column_").append(i).append(" integer,\n");
+        }
+        for (int i = 0; i < this.foreignKeys; i++) {
+            builder.append("  FOREIGN KEY (column_").append(i % this.columns)
+                .append(") REFERENCES dim_").append(i).append(" (id),\n");
+        }
+        builder.append("  PRIMARY KEY (column_0)\n);\n");
+        return builder.toString();
+    }
+}
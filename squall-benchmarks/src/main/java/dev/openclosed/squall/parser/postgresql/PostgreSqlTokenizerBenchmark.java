@@ -0,0 +1,128 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.openclosed.squall.parser.postgresql;
+
+import dev.openclosed.squall.api.parser.MessageBundle;
+import dev.openclosed.squall.benchmarks.DdlGenerator;
+import dev.openclosed.squall.parser.basic.KeywordTable;
+import dev.openclosed.squall.parser.basic.Token;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Locale;
+
+/**
+ * Measures the throughput of {@link PostgreSqlTokenizer} in tokens and characters per second.
+ *
+ * <p>The tokenizer is package-private, so this benchmark lives in the same package as the tokenizer.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PostgreSqlTokenizerBenchmark {
+
+    /**
+     * The DDL to tokenize.
+     */
+    @State(Scope.Benchmark)
+    public static class Corpus {
+
+        @Param({"1000"})
+        private int tables;
+
+        @Param({"10"})
+        private int columns;
+
+        private String text;
+        private MessageBundle messageBundle;
+        private KeywordTable keywords;
+
+        @Setup
+        public void setUp() {
+            this.text = new DdlGenerator(this.tables, this.columns).generate();
+            this.messageBundle = MessageBundle.forLocale(Locale.ENGLISH);
+            this.keywords = PostgreSqlKeyword.valuesAsTable();
+        }
+    }
+
+    /**
+     * Counts the tokens and the characters.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+
+        private long tokens;
+        private long chars;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.tokens = 0;
+            this.chars = 0;
+        }
+
+        /**
+         * Returns the number of the tokens, which is reported as the throughput.
+         * @return the number of the tokens.
+         */
+        public long tokens() {
+            return this.tokens;
+        }
+
+        /**
+         * Returns the number of the characters, which is reported as the throughput.
+         * @return the number of the characters.
+         */
+        public long chars() {
+            return this.chars;
+        }
+    }
+
+    @Benchmark
+    public void tokenize(Corpus corpus, Counters counters) {
+        var tokenizer = new PostgreSqlTokenizer(
+            corpus.text, corpus.messageBundle, corpus.keywords);
+        long tokens = 0;
+        while (tokenizer.next() != Token.EOI) {
+            tokenizer.consume();
+            tokens++;
+        }
+        counters.tokens += tokens;
+        counters.chars += corpus.text.length();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        var options = new OptionsBuilder()
+            .include(PostgreSqlTokenizerBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
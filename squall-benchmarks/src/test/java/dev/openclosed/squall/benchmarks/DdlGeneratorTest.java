@@ -0,0 +1,58 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.openclosed.squall.benchmarks;
+
+import dev.openclosed.squall.api.parser.CommentProcessor;
+import dev.openclosed.squall.api.parser.ParserConfig;
+import dev.openclosed.squall.api.parser.SqlParserFactory;
+import dev.openclosed.squall.api.sql.spec.DatabaseSpec;
+import dev.openclosed.squall.api.sql.spec.Dialect;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DdlGeneratorTest {
+
+    @Test
+    public void generatedDdlShouldBeParsedWithoutProblems() {
+        var text = new DdlGenerator(120, 12, 3, 1).generate();
+        var builder = DatabaseSpec.builder();
+        var parser = SqlParserFactory.newInstance(Dialect.POSTGRESQL).createParser(
+            ParserConfig.DEFAULT,
+            builder,
+            CommentProcessor.newDocCommentProcessor());
+
+        parser.parse(text);
+
+        assertThat(parser.getProblems()).isEmpty();
+        var spec = builder.build();
+        var tables = spec.databases().stream()
+            .flatMap(database -> database.schemas().stream())
+            .mapToLong(schema -> schema.tables().size())
+            .sum();
+        assertThat(tables).isEqualTo(120);
+        assertThat(spec.databases().stream()
+            .flatMap(database -> database.schemas().stream())
+            .flatMap(schema -> schema.tables().stream()))
+            .allSatisfy(table -> assertThat(table.columns()).hasSize(12));
+    }
+
+    @Test
+    public void sameParametersShouldGenerateSameDdl() {
+        var generator = new DdlGenerator(10, 5, 1, 7);
+        assertThat(generator.generate()).isEqualTo(generator.generate());
+    }
+}
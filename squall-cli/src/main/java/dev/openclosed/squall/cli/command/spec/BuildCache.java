@@ -0,0 +1,336 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.openclosed.squall.cli.command.spec;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * A build cache stored in the output directory.
+ *
+ * <p>The cache records the content hashes of all inputs of the last successful render,
+ * that is, the SQL sources, the configuration file, the selected renderers,
+ * and the version of this tool, as well as the hashes of the files rendered.
+ * When none of them has changed since then and all the rendered files are intact,
+ * the render can be skipped entirely.</p>
+ *
+ * <p>The results of parsing the SQL sources are also stored in a subdirectory,
+ * each in a file named after the hash of the source,
+ * so that only the sources changed since the last render need to be parsed again.</p>
+ */
+final class BuildCache {
+
+    /**
+     * The name of the cache file.
+     */
+    static final String FILENAME = ".squall-cache";
+
+    /**
+     * The name of the directory where the parsed results of the sources are stored.
+     */
+    static final String PARSED_DIRNAME = ".squall-parsed";
+
+    private static final String HELP_BUNDLE_BASE_NAME = "dev.openclosed.squall.cli.HelpMessages";
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final String VERSION_KEY = "version";
+    private static final String CONFIG_KEY = "config";
+    private static final String PARSER_KEY = "parser";
+    private static final String RENDERERS_KEY = "renderers";
+    private static final String SOURCE_KEY_PREFIX = "source.";
+    private static final String OUTPUT_KEY_PREFIX = "output.";
+
+    private final Path file;
+    private final Path parsedDir;
+    private final Map<String, String> fingerprint;
+
+    private BuildCache(Path outDir, Map<String, String> fingerprint) {
+        this.file = outDir.resolve(FILENAME);
+        this.parsedDir = outDir.resolve(PARSED_DIRNAME);
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * The result of parsing a source, stored in the cache.
+     * @param database the database inherited from the preceding sources when parsed.
+     * @param recording the recorded calls made by the parser, as returned by {@link PartialSpecBuilder#toBytes()}.
+     */
+    record ParsedSource(String database, byte[] recording) {
+    }
+
+    /**
+     * Computes the fingerprint of the inputs of the render.
+     * @param outDir the output directory where the cache is stored.
+     * @param configFile the path to the configuration file.
+     * @param parser the description of the parser configuration.
+     * @param sources the SQL sources, as written in the configuration and as resolved.
+     * @param renderers the names of the selected renderers.
+     * @return the build cache for the inputs.
+     * @throws IOException if an I/O error has occurred while reading the inputs.
+     */
+    static BuildCache compute(
+        Path outDir,
+        Path configFile,
+        String parser,
+        Map<String, Path> sources,
+        List<String> renderers) throws IOException {
+        Objects.requireNonNull(outDir);
+        Map<String, String> fingerprint = new TreeMap<>();
+        fingerprint.put(VERSION_KEY, toolVersion());
+        fingerprint.put(CONFIG_KEY, hash(configFile));
+        fingerprint.put(PARSER_KEY, parser);
+        fingerprint.put(RENDERERS_KEY, String.join(",", renderers));
+        for (var entry : sources.entrySet()) {
+            fingerprint.put(SOURCE_KEY_PREFIX + entry.getKey(), hash(entry.getValue()));
+        }
+        return new BuildCache(outDir, fingerprint);
+    }
+
+    /**
+     * Checks whether the inputs are the same as those of the last successful render,
+     * and the files rendered then are left unchanged.
+     * @return {@code true} if nothing has changed since the last render.
+     */
+    boolean isUpToDate() {
+        var stored = new Properties();
+        try (Reader reader = Files.newBufferedReader(this.file, StandardCharsets.UTF_8)) {
+            stored.load(reader);
+        } catch (NoSuchFileException e) {
+            return false;
+        } catch (IOException | IllegalArgumentException e) {
+            // treats a broken cache as stale
+            return false;
+        }
+        Map<String, String> inputs = new TreeMap<>();
+        Map<String, String> outputs = new TreeMap<>();
+        for (String key : stored.stringPropertyNames()) {
+            if (key.startsWith(OUTPUT_KEY_PREFIX)) {
+                outputs.put(key.substring(OUTPUT_KEY_PREFIX.length()), stored.getProperty(key));
+            } else {
+                inputs.put(key, stored.getProperty(key));
+            }
+        }
+        // a cache without outputs was written by an older version.
+        return inputs.equals(this.fingerprint) && !outputs.isEmpty() && areOutputsIntact(outputs);
+    }
+
+    /**
+     * Stores the fingerprint after a successful render,
+     * with the hashes of the files written into the output directory during the render.
+     * @param renderStarted the time when the render started.
+     * @throws IOException if an I/O error has occurred while reading the outputs or writing the cache.
+     */
+    void save(FileTime renderStarted) throws IOException {
+        var properties = toProperties();
+        for (var entry : hashOutputs(renderStarted).entrySet()) {
+            properties.setProperty(OUTPUT_KEY_PREFIX + entry.getKey(), entry.getValue());
+        }
+        try (Writer writer = Files.newBufferedWriter(this.file, StandardCharsets.UTF_8)) {
+            properties.store(writer, null);
+        }
+    }
+
+    /**
+     * Loads the parsed results of the sources whose contents are the same as when they were stored.
+     * The results stored by another version of this tool or with another parser configuration are ignored.
+     * @return the parsed results keyed by the sources as written in the configuration.
+     */
+    Map<String, ParsedSource> loadParsedSources() {
+        Map<String, ParsedSource> loaded = new HashMap<>();
+        for (var entry : this.fingerprint.entrySet()) {
+            if (!entry.getKey().startsWith(SOURCE_KEY_PREFIX)) {
+                continue;
+            }
+            Path path = this.parsedDir.resolve(entry.getValue());
+            try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+                if (in.readUTF().equals(this.fingerprint.get(VERSION_KEY))
+                    && in.readUTF().equals(this.fingerprint.get(PARSER_KEY))) {
+                    String database = in.readUTF();
+                    String source = entry.getKey().substring(SOURCE_KEY_PREFIX.length());
+                    loaded.put(source, new ParsedSource(database, in.readAllBytes()));
+                }
+            } catch (IOException e) {
+                // the source will be parsed again if the result is missing or broken.
+                continue;
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Stores the parsed results of the sources,
+     * and removes the results stored for the contents no longer used.
+     * @param sources the parsed results keyed by the sources as written in the configuration.
+     * @throws IOException if an I/O error has occurred while writing the results.
+     */
+    void saveParsedSources(Map<String, ParsedSource> sources) throws IOException {
+        Files.createDirectories(this.parsedDir);
+        Set<Path> current = new HashSet<>();
+        for (var entry : sources.entrySet()) {
+            String hash = this.fingerprint.get(SOURCE_KEY_PREFIX + entry.getKey());
+            if (hash == null) {
+                continue;
+            }
+            Path path = this.parsedDir.resolve(hash);
+            current.add(path);
+            var parsed = entry.getValue();
+            try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+                out.writeUTF(this.fingerprint.get(VERSION_KEY));
+                out.writeUTF(this.fingerprint.get(PARSER_KEY));
+                out.writeUTF(parsed.database());
+                out.write(parsed.recording());
+            }
+        }
+        try (Stream<Path> paths = Files.list(this.parsedDir)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                if (!current.contains(path)) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the stored fingerprint, so that the next render is not skipped.
+     * @throws IOException if an I/O error has occurred while deleting the cache.
+     */
+    void invalidate() throws IOException {
+        Files.deleteIfExists(this.file);
+    }
+
+    /**
+     * Removes the cache stored in the output directory, if any.
+     * @param outDir the output directory where the cache is stored.
+     * @throws IOException if an I/O error has occurred while deleting the cache.
+     */
+    static void remove(Path outDir) throws IOException {
+        Files.deleteIfExists(outDir.resolve(FILENAME));
+    }
+
+    /**
+     * Returns the path to the cache file.
+     * @return the path to the cache file.
+     */
+    Path file() {
+        return this.file;
+    }
+
+    /**
+     * Returns the path to the directory where the parsed results are stored.
+     * @return the path to the directory.
+     */
+    Path parsedDir() {
+        return this.parsedDir;
+    }
+
+    private Properties toProperties() {
+        var properties = new Properties();
+        properties.putAll(this.fingerprint);
+        return properties;
+    }
+
+    private boolean areOutputsIntact(Map<String, String> outputs) {
+        Path outDir = this.file.getParent();
+        try {
+            for (var entry : outputs.entrySet()) {
+                if (!hash(outDir.resolve(entry.getKey())).equals(entry.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            // including the outputs deleted
+            return false;
+        }
+    }
+
+    // Hashes the files modified since the render started, keyed by the paths relative to the output directory.
+    private Map<String, String> hashOutputs(FileTime renderStarted) throws IOException {
+        Path outDir = this.file.getParent();
+        // some file systems record the modification time only in seconds.
+        long since = renderStarted.toMillis() / 1000 * 1000;
+        Map<String, String> outputs = new TreeMap<>();
+        try (Stream<Path> paths = Files.walk(outDir)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                if (Files.isRegularFile(path)
+                    && !path.equals(this.file)
+                    && !path.startsWith(this.parsedDir)
+                    && Files.getLastModifiedTime(path).toMillis() >= since) {
+                    String relative = outDir.relativize(path).toString().replace('\\', '/');
+                    outputs.put(relative, hash(path));
+                }
+            }
+        }
+        return outputs;
+    }
+
+    private static String hash(Path path) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(path)) {
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toolVersion() {
+        var bundle = ResourceBundle.getBundle(
+            HELP_BUNDLE_BASE_NAME,
+            Locale.ENGLISH,
+            BuildCache.class.getClassLoader()
+        );
+        return bundle.getString("program.version");
+    }
+}
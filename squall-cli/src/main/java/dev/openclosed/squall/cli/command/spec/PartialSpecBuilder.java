@@ -0,0 +1,242 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.openclosed.squall.cli.command.spec;
+
+import dev.openclosed.squall.api.sql.annotation.DocAnnotation;
+import dev.openclosed.squall.api.sql.datatype.DataType;
+import dev.openclosed.squall.api.sql.datatype.IntegerDataType;
+import dev.openclosed.squall.api.sql.expression.Expression;
+import dev.openclosed.squall.api.sql.expression.ObjectRef;
+import dev.openclosed.squall.api.sql.snapshot.SnapshotFormatException;
+import dev.openclosed.squall.api.sql.snapshot.SpecRecording;
+import dev.openclosed.squall.api.sql.spec.DatabaseSpec;
+import dev.openclosed.squall.api.sql.spec.SpecMetadata;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A builder which records the calls made by a parser of a single SQL source.
+ * The recorded calls are merged into the final builder later,
+ * in the same order as the sources are listed in the configuration.
+ * The recorded calls can also be saved as bytes and restored in a later run.
+ */
+final class PartialSpecBuilder implements DatabaseSpec.Builder {
+
+    private final SpecRecording recording = new SpecRecording();
+    private boolean resolvedBeforeDatabase;
+    private String lastDatabase;
+
+    /**
+     * Merges all recorded calls into the specified builder.
+     * @param target the builder to which the recorded calls are applied.
+     */
+    void mergeInto(DatabaseSpec.Builder target) {
+        Objects.requireNonNull(target);
+        this.recording.replay(target);
+    }
+
+    /**
+     * Returns the recorded calls as bytes.
+     * @return the bytes of the recorded calls.
+     */
+    byte[] toBytes() {
+        return this.recording.toBytes();
+    }
+
+    /**
+     * Restores a builder from the bytes returned by {@link #toBytes()}.
+     * @param bytes the bytes of the recorded calls.
+     * @return the restored builder.
+     * @throws SnapshotFormatException if the bytes are not valid.
+     */
+    static PartialSpecBuilder fromBytes(byte[] bytes) throws SnapshotFormatException {
+        var builder = new PartialSpecBuilder();
+        // replaying the calls also restores the database the source depends on.
+        SpecRecording.fromBytes(bytes).replay(builder);
+        return builder;
+    }
+
+    /**
+     * Checks whether the source may have referenced objects
+     * in the database inherited from the preceding sources.
+     * @return {@code true} if the source may depend on the inherited database.
+     */
+    boolean dependsOnInheritedDatabase() {
+        return resolvedBeforeDatabase;
+    }
+
+    /**
+     * Returns the database which is current at the end of the source.
+     * @param inherited the database inherited from the preceding sources.
+     * @return the name of the database.
+     */
+    String currentDatabaseAfter(String inherited) {
+        return Optional.ofNullable(lastDatabase).orElse(inherited);
+    }
+
+    @Override
+    public DatabaseSpec.Builder setMetadata(SpecMetadata metadata) {
+        this.recording.setMetadata(metadata);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder setTitle(String title) {
+        this.recording.setTitle(title);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder setAuthor(String author) {
+        this.recording.setAuthor(author);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder setVersion(String version) {
+        this.recording.setVersion(version);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder setDate(String date) {
+        this.recording.setDate(date);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder addDatabase(String name, List<DocAnnotation<?>> annotations) {
+        this.lastDatabase = name;
+        this.recording.addDatabase(name, annotations);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder changeCurrentDatabase(String name) {
+        this.recording.changeCurrentDatabase(name);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder addSchema(String name, List<DocAnnotation<?>> annotations) {
+        this.recording.addSchema(name, annotations);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder addTable(String schemaName, String tableName, List<DocAnnotation<?>> annotations) {
+        this.recording.addTable(schemaName, tableName, annotations);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder alterTable(String schemaName, String tableName) {
+        this.recording.alterTable(schemaName, tableName);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder addTableColumn(
+        String columnName, DataType dataType, List<DocAnnotation<?>> annotations) {
+        this.recording.addTableColumn(columnName, dataType, annotations);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder addTablePrimaryKey(String constraintName, List<String> columnNames) {
+        this.recording.addTablePrimaryKey(constraintName, columnNames);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder addTableForeignKey(
+        String constraintName, ObjectRef tableRef, List<String> columns, List<String> refColumns) {
+        markResolved();
+        this.recording.addTableForeignKey(constraintName, tableRef, columns, refColumns);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder addTableUniqueConstraint(String constraintName, List<String> columnNames) {
+        this.recording.addTableUniqueConstraint(constraintName, columnNames);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder addColumnNullable(boolean isNullable) {
+        this.recording.addColumnNullable(isNullable);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder addColumnDefaultValue(Expression defaultValue) {
+        // default values may contain references to sequences
+        markResolved();
+        this.recording.addColumnDefaultValue(defaultValue);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder addSequence(
+        String schemaName, String sequenceName, List<DocAnnotation<?>> annotations) {
+        this.recording.addSequence(schemaName, sequenceName, annotations);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder addSequenceDataType(IntegerDataType dataType) {
+        this.recording.addSequenceDataType(dataType);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder addSequenceStart(long start) {
+        this.recording.addSequenceStart(start);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder addSequenceIncrement(long increment) {
+        this.recording.addSequenceIncrement(increment);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder addSequenceMaxValue(long maxValue) {
+        this.recording.addSequenceMaxValue(maxValue);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec.Builder addSequenceMinValue(long minValue) {
+        this.recording.addSequenceMinValue(minValue);
+        return this;
+    }
+
+    @Override
+    public DatabaseSpec build() {
+        throw new UnsupportedOperationException("partial builder cannot build a spec");
+    }
+
+    private void markResolved() {
+        if (this.lastDatabase == null) {
+            this.resolvedBeforeDatabase = true;
+        }
+    }
+}
@@ -17,28 +17,41 @@
 package dev.openclosed.squall.cli.command.spec;
 
 import dev.openclosed.squall.api.parser.CommentProcessor;
+import dev.openclosed.squall.api.text.MappedText;
 import dev.openclosed.squall.api.text.Problem;
 import dev.openclosed.squall.api.config.RootConfig;
 import dev.openclosed.squall.api.parser.ParserConfig;
 import dev.openclosed.squall.api.parser.SqlParserFactory;
 import dev.openclosed.squall.api.renderer.RenderConfig;
+import dev.openclosed.squall.api.renderer.Renderer;
 import dev.openclosed.squall.api.renderer.RendererFactory;
+import dev.openclosed.squall.api.sql.snapshot.SnapshotFormatException;
+import dev.openclosed.squall.api.sql.snapshot.SpecSnapshot;
 import dev.openclosed.squall.api.sql.spec.DatabaseSpec;
 import dev.openclosed.squall.cli.spi.CommandException;
 import dev.openclosed.squall.cli.spi.Subcommand;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Mixin;
+import picocli.CommandLine.Option;
 import picocli.CommandLine.Parameters;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 @Command(
     name = "render",
@@ -46,6 +59,12 @@ import java.util.stream.Stream;
 )
 final class Render implements Subcommand {
 
+    // the database which parsers start with
+    private static final String INITIAL_DATABASE = "";
+
+    // the period for a burst of changes made by an editor to settle down
+    private static final Duration WATCH_QUIET_PERIOD = Duration.ofMillis(200);
+
     @Mixin
     private ExecutionContext context;
 
@@ -59,6 +78,49 @@ final class Render implements Subcommand {
     )
     private String[] names;
 
+    @Option(
+        names = {"-j", "--jobs"},
+        paramLabel = "N",
+        description = {
+            "Number of threads parsing SQL sources in parallel.",
+            "Defaults to 1, parsing the sources sequentially."
+        },
+        defaultValue = "1"
+    )
+    private int jobs;
+
+    @Option(
+        names = {"--no-cache"},
+        description = "Render even if nothing has changed since the last run."
+    )
+    private boolean noCache;
+
+    @Option(
+        names = {"--export-snapshot"},
+        paramLabel = "FILE",
+        description = "Save the parsed spec as a snapshot into FILE."
+    )
+    private String exportSnapshot;
+
+    @Option(
+        names = {"--from-snapshot"},
+        paramLabel = "FILE",
+        description = {
+            "Load the spec from the snapshot FILE",
+            "instead of parsing SQL sources."
+        }
+    )
+    private String fromSnapshot;
+
+    @Option(
+        names = {"-w", "--watch"},
+        description = {
+            "Watch the SQL sources and the configuration,",
+            "and render again whenever they change."
+        }
+    )
+    private boolean watch;
+
     @Override
     public ExecutionContext context() {
         return this.context;
@@ -66,7 +128,15 @@ final class Render implements Subcommand {
 
     @Override
     public void runWithConfig(RootConfig config) {
-        if (config.sources().isEmpty()) {
+        if (fromSnapshot != null && watch) {
+            // the snapshot is not the input watched for changes.
+            throw new CommandException(messages().CANNOT_WATCH_SNAPSHOT());
+        }
+        if (fromSnapshot != null) {
+            processSnapshot(fromSnapshot, config);
+        } else if (watch) {
+            watchAll(config);
+        } else if (config.sources().isEmpty()) {
             logger().log(System.Logger.Level.INFO, messages().NO_SQL_SOURCES());
         } else {
             processAll(names, config);
@@ -75,9 +145,178 @@ final class Render implements Subcommand {
 
     private void processAll(String[] names, RootConfig config) {
         Map<String, RenderConfig> renderConfigs = selectRenderers(config, names);
-        var spec = readDatabaseSpec(config);
-        for (var entry : renderConfigs.entrySet()) {
-            renderDocument(spec, entry.getKey(), entry.getValue(), config);
+        var cache = computeBuildCache(config, renderConfigs);
+        // the snapshot must be exported even if nothing has changed.
+        if (cache != null && !noCache && exportSnapshot == null && cache.isUpToDate()) {
+            logger().log(System.Logger.Level.INFO, messages().SPEC_UP_TO_DATE(resolvePath(config.outDir())));
+            return;
+        }
+        invalidateBuildCache(cache);
+        var renderStarted = FileTime.fromMillis(System.currentTimeMillis());
+        var spec = (cache != null && !noCache) ? readDatabaseSpec(config, cache) : readDatabaseSpec(config);
+        if (exportSnapshot != null) {
+            saveSnapshot(spec, resolvePath(exportSnapshot));
+        }
+        renderDocuments(spec, renderConfigs, config);
+        saveBuildCache(cache, renderStarted);
+    }
+
+    // Renders the spec loaded from the snapshot, without parsing the SQL sources nor using the build cache.
+    private void processSnapshot(String snapshot, RootConfig config) {
+        Map<String, RenderConfig> renderConfigs = selectRenderers(config, names);
+        var spec = loadSnapshot(resolvePath(snapshot));
+        if (exportSnapshot != null) {
+            saveSnapshot(spec, resolvePath(exportSnapshot));
+        }
+        renderDocuments(spec, renderConfigs, config);
+    }
+
+    // Renders the spec whenever the inputs change, until the current thread is interrupted.
+    // The parsed results are kept for each source, and only the changed sources are parsed again.
+    private void watchAll(RootConfig initialConfig) {
+        Path configPath = SourceWatcher.normalize(getResolvedFile());
+        RootConfig config = initialConfig;
+        Map<String, SourceParseResult> parsed = new HashMap<>();
+        Set<Path> changed = Set.of();
+        try (var watcher = new SourceWatcher(WATCH_QUIET_PERIOD)) {
+            for (;;) {
+                for (Path dir : watcher.watch(watchedFiles(config, configPath))) {
+                    logger().log(System.Logger.Level.WARNING, messages().DIRECTORY_NOT_WATCHED(dir));
+                }
+                renderChanges(config, parsed, changed);
+                logger().log(System.Logger.Level.INFO, messages().WATCHING_FOR_CHANGES());
+                changed = watcher.awaitChanges();
+                logger().log(System.Logger.Level.INFO, messages().DETECTED_CHANGES(changed.size()));
+                if (changed.contains(configPath)) {
+                    RootConfig reloaded = reloadConfiguration(config);
+                    if (reloaded != config) {
+                        config = reloaded;
+                        parsed.clear();
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            throw new CommandException(messages().FAILED_TO_WATCH_FILES(), e);
+        }
+    }
+
+    private List<Path> watchedFiles(RootConfig config, Path configPath) {
+        List<Path> files = new ArrayList<>();
+        files.add(configPath);
+        for (String source : config.sources()) {
+            files.add(resolvePath(source));
+        }
+        return files;
+    }
+
+    // Keeps the current configuration if the new one is invalid.
+    private RootConfig reloadConfiguration(RootConfig current) {
+        try {
+            return loadConfiguration();
+        } catch (CommandException e) {
+            logger().log(System.Logger.Level.ERROR, e.getMessage());
+            return current;
+        }
+    }
+
+    // Reports the errors without stopping the watch.
+    private void renderChanges(RootConfig config, Map<String, SourceParseResult> parsed, Set<Path> changed) {
+        try {
+            Map<String, RenderConfig> renderConfigs = selectRenderers(config, names);
+            if (config.sources().isEmpty()) {
+                logger().log(System.Logger.Level.INFO, messages().NO_SQL_SOURCES());
+                return;
+            }
+            removeBuildCache(config);
+            var spec = readDatabaseSpec(config, parsed, changed);
+            if (exportSnapshot != null) {
+                saveSnapshot(spec, resolvePath(exportSnapshot));
+            }
+            renderDocuments(spec, renderConfigs, config);
+        } catch (CommandException e) {
+            logger().log(System.Logger.Level.ERROR, e.getMessage());
+        }
+    }
+
+    // The documents rendered while watching are not recorded in the build cache,
+    // which must not skip the next render even if the sources are reverted.
+    private void removeBuildCache(RootConfig config) {
+        Path outDir = resolvePath(config.outDir());
+        try {
+            BuildCache.remove(outDir);
+        } catch (IOException e) {
+            logger().log(System.Logger.Level.WARNING,
+                messages().FAILED_TO_WRITE_FILE(outDir.resolve(BuildCache.FILENAME)));
+        }
+    }
+
+    private DatabaseSpec loadSnapshot(Path path) {
+        logger().log(System.Logger.Level.INFO, messages().LOADING_SNAPSHOT(path));
+        try (var in = Files.newInputStream(path)) {
+            var spec = SpecSnapshot.read(in);
+            logger().log(System.Logger.Level.INFO, messages().LOADED_SNAPSHOT(path));
+            return spec;
+        } catch (NoSuchFileException e) {
+            throw new CommandException(messages().SNAPSHOT_NOT_EXIST(path));
+        } catch (SnapshotFormatException e) {
+            throw new CommandException(messages().SNAPSHOT_INVALID(path), e);
+        } catch (IOException e) {
+            throw new CommandException(messages().FAILED_TO_READ_FILE(path), e);
+        }
+    }
+
+    private void saveSnapshot(DatabaseSpec spec, Path path) {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.write(path, SpecSnapshot.toBytes(spec));
+            logger().log(System.Logger.Level.INFO, messages().SAVED_SNAPSHOT(path));
+        } catch (IOException e) {
+            throw new CommandException(messages().FAILED_TO_WRITE_FILE(path), e);
+        }
+    }
+
+    // Returns null if any of the inputs cannot be read,
+    // which will be reported later while parsing.
+    private BuildCache computeBuildCache(RootConfig config, Map<String, RenderConfig> renderConfigs) {
+        Map<String, Path> sources = new LinkedHashMap<>();
+        for (String source : config.sources()) {
+            sources.put(source, resolvePath(source));
+        }
+        try {
+            return BuildCache.compute(
+                resolvePath(config.outDir()),
+                getResolvedFile(),
+                config.parser().toString(),
+                sources,
+                List.copyOf(renderConfigs.keySet()));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void invalidateBuildCache(BuildCache cache) {
+        if (cache == null) {
+            return;
+        }
+        try {
+            cache.invalidate();
+        } catch (IOException e) {
+            logger().log(System.Logger.Level.WARNING, messages().FAILED_TO_WRITE_FILE(cache.file()));
+        }
+    }
+
+    private void saveBuildCache(BuildCache cache, FileTime renderStarted) {
+        if (cache == null) {
+            return;
+        }
+        try {
+            cache.save(renderStarted);
+        } catch (IOException e) {
+            logger().log(System.Logger.Level.WARNING, messages().FAILED_TO_WRITE_FILE(cache.file()));
         }
     }
 
@@ -88,11 +327,141 @@ final class Render implements Subcommand {
         return specBuilder.build();
     }
 
+    // Reuses the parsed results of the sources unchanged since the last render,
+    // and parses the others in the same way as the watch mode does.
+    private DatabaseSpec readDatabaseSpec(RootConfig config, BuildCache cache) {
+        Map<String, SourceParseResult> parsed = loadParsedSources(cache);
+        try {
+            return readDatabaseSpec(config, parsed, Set.of());
+        } finally {
+            saveParsedSources(cache, parsed);
+        }
+    }
+
+    private Map<String, SourceParseResult> loadParsedSources(BuildCache cache) {
+        Map<String, SourceParseResult> parsed = new HashMap<>();
+        for (var entry : cache.loadParsedSources().entrySet()) {
+            String source = entry.getKey();
+            var stored = entry.getValue();
+            try {
+                var builder = PartialSpecBuilder.fromBytes(stored.recording());
+                parsed.put(source, new SourceParseResult(
+                    source, resolvePath(source), stored.database(), builder, List.of(), 0, null));
+            } catch (SnapshotFormatException e) {
+                // the source will be parsed again.
+                continue;
+            }
+        }
+        return parsed;
+    }
+
+    private void saveParsedSources(BuildCache cache, Map<String, SourceParseResult> parsed) {
+        Map<String, BuildCache.ParsedSource> sources = new HashMap<>();
+        parsed.forEach((source, result) -> {
+            if (result.succeeded()) {
+                sources.put(source, new BuildCache.ParsedSource(result.database(), result.builder().toBytes()));
+            }
+        });
+        try {
+            cache.saveParsedSources(sources);
+        } catch (IOException e) {
+            logger().log(System.Logger.Level.WARNING, messages().FAILED_TO_WRITE_FILE(cache.parsedDir()));
+        }
+    }
+
+    // Parses again only the changed sources, and then merges all sources in the order of the configuration.
+    private DatabaseSpec readDatabaseSpec(
+        RootConfig config,
+        Map<String, SourceParseResult> parsed,
+        Set<Path> changed) {
+        List<String> sources = config.sources();
+        parsed.keySet().retainAll(sources);
+        parsed.keySet().removeIf(source -> changed.contains(SourceWatcher.normalize(resolvePath(source))));
+        Set<String> parsedNow = parseMissingSqlSources(sources, config.parser(), parsed);
+
+        var specBuilder = DatabaseSpec.builder();
+        config.metadata().ifPresent(specBuilder::setMetadata);
+        int failures = 0;
+        for (String source : sources) {
+            var result = parsed.get(source);
+            if (parsedNow.contains(source)) {
+                if (!mergeSqlSource(result, specBuilder)) {
+                    failures++;
+                }
+            } else if (result.succeeded()) {
+                // the problems were already reported when parsed.
+                result.builder().mergeInto(specBuilder);
+            } else {
+                failures++;
+            }
+        }
+        if (failures > 0) {
+            throw new CommandException(messages().FOUND_SQL_ERRORS(failures));
+        }
+        return specBuilder.build();
+    }
+
+    // Parses the sources not parsed yet, and the ones depending on the database changed by the preceding sources.
+    private Set<String> parseMissingSqlSources(
+        List<String> sources,
+        ParserConfig parserConfig,
+        Map<String, SourceParseResult> parsed) {
+        List<String> missing = sources.stream().filter(source -> !parsed.containsKey(source)).toList();
+        Set<String> parsedNow = new HashSet<>();
+        if (missing.isEmpty()) {
+            return parsedNow;
+        }
+        var parserFactory = SqlParserFactory.newInstance(parserConfig.dialect());
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(jobs, missing.size())));
+        try {
+            Map<String, Future<SourceParseResult>> futures = new HashMap<>();
+            for (String source : missing) {
+                futures.put(source, executor.submit(
+                    () -> parseSqlSource(source, parserConfig, parserFactory, INITIAL_DATABASE)));
+            }
+
+            String database = INITIAL_DATABASE;
+            for (String source : sources) {
+                var future = futures.get(source);
+                boolean fresh = future != null;
+                var result = fresh ? getResult(future) : parsed.get(source);
+                if (!result.database().equals(database) && result.dependsOnInheritedDatabase()) {
+                    result = parseSqlSource(source, parserConfig, parserFactory, database);
+                    fresh = true;
+                }
+                if (fresh) {
+                    parsed.put(source, result);
+                    parsedNow.add(source);
+                }
+                database = result.currentDatabaseAfter(database);
+            }
+            return parsedNow;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     private void parseSqlSources(
         List<String> sources,
         ParserConfig parserConfig,
         DatabaseSpec.Builder specBuilder) {
         var parserFactory = SqlParserFactory.newInstance(parserConfig.dialect());
+        int failures;
+        if (jobs > 1 && sources.size() > 1) {
+            failures = parseSqlSourcesInParallel(sources, parserConfig, parserFactory, specBuilder);
+        } else {
+            failures = parseSqlSourcesSequentially(sources, parserConfig, parserFactory, specBuilder);
+        }
+        if (failures > 0) {
+            throw new CommandException(messages().FOUND_SQL_ERRORS(failures));
+        }
+    }
+
+    private int parseSqlSourcesSequentially(
+        List<String> sources,
+        ParserConfig parserConfig,
+        SqlParserFactory parserFactory,
+        DatabaseSpec.Builder specBuilder) {
         var parser = parserFactory.createParser(parserConfig,
             specBuilder,
             CommentProcessor.newDocCommentProcessor());
@@ -101,7 +470,7 @@ final class Render implements Subcommand {
             Path fullPath = resolvePath(source);
             try {
                 logger().log(System.Logger.Level.INFO, messages().PARSING_SQL_SOURCE(source));
-                String sql = Files.readString(fullPath);
+                CharSequence sql = MappedText.read(fullPath);
                 int errors = parser.parse(sql);
                 reportSqlProblems(parser.getProblems());
                 if (errors == 0) {
@@ -117,8 +486,101 @@ final class Render implements Subcommand {
                 failures++;
             }
         }
-        if (failures > 0) {
-            throw new CommandException(messages().FOUND_SQL_ERRORS(failures));
+        return failures;
+    }
+
+    // Parses each source into its own partial builder on a worker thread,
+    // and then merges the partial results in the order of the sources.
+    private int parseSqlSourcesInParallel(
+        List<String> sources,
+        ParserConfig parserConfig,
+        SqlParserFactory parserFactory,
+        DatabaseSpec.Builder specBuilder) {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(jobs, sources.size()));
+        try {
+            List<Future<SourceParseResult>> futures = new ArrayList<>();
+            for (String source : sources) {
+                futures.add(executor.submit(
+                    () -> parseSqlSource(source, parserConfig, parserFactory, INITIAL_DATABASE)));
+            }
+
+            // Sources following CREATE DATABASE must be parsed again with the right database.
+            String database = INITIAL_DATABASE;
+            for (int i = 0; i < sources.size(); i++) {
+                var result = getResult(futures.get(i));
+                if (!database.equals(INITIAL_DATABASE) && result.dependsOnInheritedDatabase()) {
+                    final String source = sources.get(i);
+                    final String inherited = database;
+                    futures.set(i, executor.submit(
+                        () -> parseSqlSource(source, parserConfig, parserFactory, inherited)));
+                }
+                database = result.currentDatabaseAfter(database);
+            }
+
+            int failures = 0;
+            for (var future : futures) {
+                if (!mergeSqlSource(getResult(future), specBuilder)) {
+                    failures++;
+                }
+            }
+            return failures;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private SourceParseResult parseSqlSource(
+        String source,
+        ParserConfig parserConfig,
+        SqlParserFactory parserFactory,
+        String database) {
+        Path fullPath = resolvePath(source);
+        var partialBuilder = new PartialSpecBuilder();
+        try {
+            CharSequence sql = MappedText.read(fullPath);
+            // The comment processor holds state and cannot be shared between threads.
+            var parser = parserFactory.createParser(parserConfig,
+                partialBuilder,
+                CommentProcessor.newDocCommentProcessor());
+            parser.setCurrentDatabase(database);
+            int errors = parser.parse(sql);
+            return new SourceParseResult(
+                source, fullPath, database, partialBuilder, parser.getProblems(), errors, null);
+        } catch (IOException e) {
+            return new SourceParseResult(source, fullPath, database, partialBuilder, List.of(), 0, e);
+        }
+    }
+
+    private boolean mergeSqlSource(SourceParseResult result, DatabaseSpec.Builder specBuilder) {
+        logger().log(System.Logger.Level.INFO, messages().PARSING_SQL_SOURCE(result.source()));
+        if (result.exception() instanceof NoSuchFileException) {
+            logger().log(System.Logger.Level.ERROR, messages().SQL_FILE_NOT_EXIST(result.path()));
+            return false;
+        } else if (result.exception() != null) {
+            logger().log(System.Logger.Level.ERROR, messages().FAILED_TO_READ_FILE(result.path()));
+            return false;
+        }
+        result.builder().mergeInto(specBuilder);
+        reportSqlProblems(result.problems());
+        if (result.errors() == 0) {
+            logger().log(System.Logger.Level.INFO, messages().PARSED_SQL_SOURCE(result.source()));
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    private static <T> T getResult(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
         }
     }
 
@@ -139,31 +601,81 @@ final class Render implements Subcommand {
             throw new CommandException(messages().NO_RENDERER_DEFINED());
         }
 
-        return Stream.of(names)
-            .collect(Collectors.toMap(Function.identity(),
-                name -> {
-                    if (renderers.containsKey(name)) {
-                        return renderers.get(name);
-                    } else {
-                        throw new CommandException(messages().RENDERER_NOT_DEFINED(name));
-                    }
-                }
-            ));
+        // keeps the renderers in the requested order
+        Map<String, RenderConfig> selected = new LinkedHashMap<>();
+        for (String name : names) {
+            if (!renderers.containsKey(name)) {
+                throw new CommandException(messages().RENDERER_NOT_DEFINED(name));
+            }
+            selected.put(name, renderers.get(name));
+        }
+        return selected;
     }
 
-    private void renderDocument(
-        DatabaseSpec spec, String name, RenderConfig renderConfig,
+    // Runs all renderers concurrently, sharing the immutable spec.
+    // A renderer that failed does not stop the others,
+    // and the results are reported in the requested order after all renderers have finished.
+    private void renderDocuments(
+        DatabaseSpec spec, Map<String, RenderConfig> renderConfigs,
         RootConfig rootConfig) {
-        var factory = getRendererFactory(renderConfig.format());
-        var renderer = factory.createRenderer(renderConfig);
+        Map<String, Renderer> renderers = new LinkedHashMap<>();
+        renderConfigs.forEach((name, renderConfig) -> {
+            var factory = getRendererFactory(renderConfig.format());
+            renderers.put(name, factory.createRenderer(renderConfig));
+        });
         Path outDir = requireOutputDirectory(rootConfig.outDir());
-        try  {
-            logger().log(System.Logger.Level.INFO, messages().RENDERING_SPEC(name, outDir));
+
+        // sorts the components once for all renderers sharing the same order.
+        renderConfigs.values().stream()
+            .map(RenderConfig::order)
+            .distinct()
+            .forEach(spec::presort);
+
+        ExecutorService executor = Executors.newFixedThreadPool(renderers.size());
+        try {
+            Map<String, Future<RenderResult>> futures = new LinkedHashMap<>();
+            renderers.forEach((name, renderer) -> {
+                logger().log(System.Logger.Level.INFO, messages().RENDERING_SPEC(name, outDir));
+                futures.put(name, executor.submit(() -> renderDocument(spec, renderer, outDir)));
+            });
+
+            int failures = 0;
+            for (var entry : futures.entrySet()) {
+                if (!reportRenderResult(entry.getKey(), getResult(entry.getValue()), outDir)) {
+                    failures++;
+                }
+            }
+            if (failures > 0) {
+                throw new CommandException(messages().FOUND_RENDER_ERRORS(failures));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static RenderResult renderDocument(DatabaseSpec spec, Renderer renderer, Path outDir) {
+        final long startTime = System.currentTimeMillis();
+        Exception exception = null;
+        try {
             renderer.render(spec, outDir);
-            logger().log(System.Logger.Level.INFO, messages().RENDERED_SPEC(name, outDir));
-        } catch (IOException e) {
-            throw new CommandException(messages().FAILED_TO_WRITE_FILE(outDir), e);
+        } catch (IOException | RuntimeException e) {
+            exception = e;
+        }
+        return new RenderResult(System.currentTimeMillis() - startTime, exception);
+    }
+
+    private boolean reportRenderResult(String name, RenderResult result, Path outDir) {
+        var logger = logger();
+        if (result.exception() == null) {
+            logger.log(System.Logger.Level.INFO, messages().RENDERED_SPEC(name, outDir, result.timeElapsed()));
+            return true;
+        }
+        if (result.exception() instanceof IOException) {
+            logger.log(System.Logger.Level.ERROR, messages().FAILED_TO_WRITE_FILE(outDir));
         }
+        logger.log(System.Logger.Level.ERROR, messages().FAILED_TO_RENDER_SPEC(name, result.timeElapsed()));
+        logger.log(System.Logger.Level.TRACE, result.exception());
+        return false;
     }
 
     private RendererFactory getRendererFactory(String format) {
@@ -183,4 +695,44 @@ final class Render implements Subcommand {
             throw new CommandException(messages().CANNOT_TO_CREATE_OUTPUT_DIRECTORY(path), e);
         }
     }
+
+    /**
+     * The result of parsing a single SQL source.
+     * @param source the source as written in the configuration.
+     * @param path the resolved path to the source.
+     * @param database the database inherited from the preceding sources when parsed.
+     * @param builder the builder that recorded the parsed result.
+     * @param problems the problems found in the source.
+     * @param errors the number of errors found in the source.
+     * @param exception the exception thrown while reading the source, may be {@code null}.
+     */
+    private record SourceParseResult(
+        String source,
+        Path path,
+        String database,
+        PartialSpecBuilder builder,
+        List<Problem> problems,
+        int errors,
+        IOException exception) {
+
+        boolean succeeded() {
+            return exception == null && errors == 0;
+        }
+
+        boolean dependsOnInheritedDatabase() {
+            return builder.dependsOnInheritedDatabase();
+        }
+
+        String currentDatabaseAfter(String inherited) {
+            return builder.currentDatabaseAfter(inherited);
+        }
+    }
+
+    /**
+     * The result of rendering by a single renderer.
+     * @param timeElapsed the time taken by the renderer in milliseconds.
+     * @param exception the exception thrown by the renderer, may be {@code null}.
+     */
+    private record RenderResult(long timeElapsed, Exception exception) {
+    }
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.openclosed.squall.cli.command.spec;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * A watcher of the input files of the render, that is, the SQL sources and the configuration file.
+ *
+ * <p>The parent directories of the files are watched instead of the files themselves,
+ * because editors often replace a file rather than modify it.
+ * A burst of changes, such as the ones made by an editor while saving,
+ * is reported at once after no more change has been made for the quiet period.</p>
+ *
+ * <p>The directories which do not exist, including the ones deleted while watched,
+ * are checked periodically and start to be watched once they are created.</p>
+ */
+final class SourceWatcher implements Closeable {
+
+    private static final long RETRY_INTERVAL_MILLIS = 1000;
+
+    private final WatchService service;
+    private final long quietPeriodMillis;
+    // the normalized absolute paths of the files to watch
+    private final Set<Path> files = new HashSet<>();
+    private final Map<Path, WatchKey> keys = new HashMap<>();
+    // the directories to watch once they are created
+    private final Set<Path> missingDirs = new HashSet<>();
+
+    /**
+     * Constructs this watcher.
+     * @param quietPeriod the period without changes after which the changes are reported.
+     * @throws IOException if an I/O error has occurred while creating the watch service.
+     */
+    SourceWatcher(Duration quietPeriod) throws IOException {
+        this.service = FileSystems.getDefault().newWatchService();
+        this.quietPeriodMillis = quietPeriod.toMillis();
+    }
+
+    /**
+     * Replaces the files to watch.
+     * @param files the files to watch.
+     * @return the directories which do not exist and are not watched for now.
+     * @throws IOException if an I/O error has occurred while registering the directories.
+     */
+    Set<Path> watch(Collection<Path> files) throws IOException {
+        this.files.clear();
+        Set<Path> dirs = new HashSet<>();
+        for (var file : files) {
+            Path path = normalize(file);
+            this.files.add(path);
+            if (path.getParent() != null) {
+                dirs.add(path.getParent());
+            }
+        }
+        for (var it = this.keys.entrySet().iterator(); it.hasNext();) {
+            var entry = it.next();
+            if (!dirs.contains(entry.getKey())) {
+                entry.getValue().cancel();
+                it.remove();
+            }
+        }
+        this.missingDirs.clear();
+        for (var dir : dirs) {
+            if (!this.keys.containsKey(dir)) {
+                try {
+                    register(dir);
+                } catch (NoSuchFileException | NotDirectoryException e) {
+                    this.missingDirs.add(dir);
+                }
+            }
+        }
+        return Set.copyOf(this.missingDirs);
+    }
+
+    /**
+     * Waits until any of the watched files has changed and the changes have settled down.
+     * @return the normalized absolute paths of the files changed, never empty.
+     * @throws InterruptedException if the current thread was interrupted while waiting.
+     */
+    Set<Path> awaitChanges() throws InterruptedException {
+        Set<Path> changed = new LinkedHashSet<>();
+        for (;;) {
+            WatchKey key;
+            if (!changed.isEmpty()) {
+                key = this.service.poll(this.quietPeriodMillis, TimeUnit.MILLISECONDS);
+                if (key == null) {
+                    return changed;
+                }
+            } else if (this.missingDirs.isEmpty()) {
+                key = this.service.take();
+            } else {
+                key = this.service.poll(RETRY_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (key == null) {
+                    registerMissingDirs(changed);
+                    continue;
+                }
+            }
+            collectChanges(key, changed);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.service.close();
+    }
+
+    /**
+     * Returns the path in the form compared with the changed files.
+     * @param path the path to normalize.
+     * @return the normalized absolute path.
+     */
+    static Path normalize(Path path) {
+        return path.toAbsolutePath().normalize();
+    }
+
+    private void register(Path dir) throws IOException {
+        this.keys.put(dir, dir.register(this.service,
+            StandardWatchEventKinds.ENTRY_CREATE,
+            StandardWatchEventKinds.ENTRY_MODIFY,
+            StandardWatchEventKinds.ENTRY_DELETE));
+    }
+
+    private void registerMissingDirs(Set<Path> changed) {
+        for (var it = this.missingDirs.iterator(); it.hasNext();) {
+            Path dir = it.next();
+            try {
+                register(dir);
+            } catch (IOException e) {
+                // tries again later.
+                continue;
+            }
+            it.remove();
+            // the files may have been created along with the directory.
+            filesIn(dir).filter(Files::exists).forEach(changed::add);
+        }
+    }
+
+    private Stream<Path> filesIn(Path dir) {
+        return this.files.stream().filter(file -> dir.equals(file.getParent()));
+    }
+
+    private void collectChanges(WatchKey key, Set<Path> changed) {
+        Path dir = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // the events were lost, so any file may have changed.
+                filesIn(dir).forEach(changed::add);
+            } else if (event.context() instanceof Path name) {
+                Path file = dir.resolve(name);
+                if (this.files.contains(file)) {
+                    changed.add(file);
+                }
+            }
+        }
+        if (!key.reset() && this.keys.remove(dir, key)) {
+            // the directory has been deleted, so it is watched again once recreated.
+            this.missingDirs.add(dir);
+            filesIn(dir).forEach(changed::add);
+        }
+    }
+}
@@ -131,8 +131,60 @@ public interface MessageBundle {
         return of("RENDERING_SPEC", rendererName, path.toString());
     }
 
-    default Message RENDERED_SPEC(String rendererName, Path path) {
-        return of("RENDERED_SPEC", rendererName, path.toString());
+    default Message RENDERED_SPEC(String rendererName, Path path, long timeElapsed) {
+        return of("RENDERED_SPEC", rendererName, path.toString(), timeElapsed);
+    }
+
+    default Message FAILED_TO_RENDER_SPEC(String rendererName, long timeElapsed) {
+        return of("FAILED_TO_RENDER_SPEC", rendererName, timeElapsed);
+    }
+
+    default Message FOUND_RENDER_ERRORS(int renderers) {
+        return of("FOUND_RENDER_ERRORS", renderers);
+    }
+
+    default Message SPEC_UP_TO_DATE(Path path) {
+        return of("SPEC_UP_TO_DATE", path.toString());
+    }
+
+    default Message LOADING_SNAPSHOT(Path path) {
+        return of("LOADING_SNAPSHOT", path.toString());
+    }
+
+    default Message LOADED_SNAPSHOT(Path path) {
+        return of("LOADED_SNAPSHOT", path.toString());
+    }
+
+    default Message SAVED_SNAPSHOT(Path path) {
+        return of("SAVED_SNAPSHOT", path.toString());
+    }
+
+    default Message SNAPSHOT_NOT_EXIST(Path path) {
+        return of("SNAPSHOT_NOT_EXIST", path.toString());
+    }
+
+    default Message SNAPSHOT_INVALID(Path path) {
+        return of("SNAPSHOT_INVALID", path.toString());
+    }
+
+    default Message WATCHING_FOR_CHANGES() {
+        return of("WATCHING_FOR_CHANGES");
+    }
+
+    default Message DETECTED_CHANGES(int files) {
+        return of("DETECTED_CHANGES", files);
+    }
+
+    default Message FAILED_TO_WATCH_FILES() {
+        return of("FAILED_TO_WATCH_FILES");
+    }
+
+    default Message CANNOT_WATCH_SNAPSHOT() {
+        return of("CANNOT_WATCH_SNAPSHOT");
+    }
+
+    default Message DIRECTORY_NOT_WATCHED(Path path) {
+        return of("DIRECTORY_NOT_WATCHED", path.toString());
     }
 
     //CHECKSTYLE:ON
@@ -89,7 +89,18 @@ public interface BaseTestCase {
      * @return the result of the command execution.
      */
     default RunResult run() {
-        var workDir = prepareWorkDirectory();
+        return runIn(prepareWorkDirectory());
+    }
+
+    /**
+     * Runs the subcommand again in the working directory left by the previous run.
+     * @return the result of the command execution.
+     */
+    default RunResult rerun() {
+        return runIn(directory());
+    }
+
+    private RunResult runIn(Path workDir) {
         var args = createArgs();
         printCommandLine(args);
         var stringWriter = new StringWriter();
@@ -18,12 +18,19 @@ package dev.openclosed.squall.cli.command.spec;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 import dev.openclosed.squall.cli.command.RunResult;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -61,11 +68,15 @@ public final class RenderTest {
             new TestCase("markdown", 0),
             new TestCase("multiple", 0, "json", "markdown"),
             new TestCase("nonexistent-renderer", 1, "markdown"),
+            new TestCase("nonexistent-snapshot", 1, "--from-snapshot", "missing.snapshot"),
             new TestCase("nonexistent-sql", 1),
             new TestCase("no-renderers", 1),
             new TestCase("no-sources", 0),
+            new TestCase("parallel", 0, "--jobs", "4"),
             new TestCase("redmine", 0),
-            new TestCase("unknown-format", 1)
+            new TestCase("render-failure", 1, "markdown", "json"),
+            new TestCase("unknown-format", 1),
+            new TestCase("watch-snapshot", 1, "--from-snapshot", "spec.snapshot", "--watch")
         );
     }
 
@@ -76,4 +87,198 @@ public final class RenderTest {
         assertThat(result.exitCode()).isEqualTo(testCase.exitCode());
         assertThat(result.getConsoleOutputToVerify()).isEqualTo(testCase.getExpectedConsoleOutput());
     }
+
+    @Test
+    public void parallelParsingBuildsSameSpec() throws IOException {
+        var sequential = new TestCase("parallel", 0);
+        assertThat(sequential.run().exitCode()).isZero();
+        String expected = Files.readString(sequential.directory().resolve("output/spec.json"));
+
+        var parallel = new TestCase("parallel", 0, "--jobs", "4");
+        assertThat(parallel.run().exitCode()).isZero();
+        String actual = Files.readString(parallel.directory().resolve("output/spec.json"));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    public void skipRenderingIfNothingChanged() throws IOException {
+        var testCase = new TestCase("up-to-date", 0);
+        assertThat(testCase.run().exitCode()).isZero();
+
+        RunResult result = testCase.rerun();
+        assertThat(result.exitCode()).isZero();
+        assertThat(result.getConsoleOutputToVerify())
+            .anyMatch(line -> line.startsWith("Nothing has changed since the last render"))
+            .noneMatch(line -> line.startsWith("Parsing a SQL source file"));
+
+        Path source = testCase.directory().resolve("schema.sql");
+        Files.writeString(source, "CREATE TABLE added (id integer);\n", StandardOpenOption.APPEND);
+        result = testCase.rerun();
+        assertThat(result.exitCode()).isZero();
+        assertThat(result.getConsoleOutputToVerify())
+            .anyMatch(line -> line.startsWith("Renderer \"default\" has rendered the spec"));
+    }
+
+    @Test
+    public void renderAgainIfOutputIsDeleted() throws IOException {
+        var testCase = new TestCase("up-to-date", 0);
+        assertThat(testCase.run().exitCode()).isZero();
+
+        Path output = testCase.directory().resolve("output/spec.json");
+        Files.delete(output);
+        RunResult result = testCase.rerun();
+        assertThat(result.exitCode()).isZero();
+        assertThat(result.getConsoleOutputToVerify())
+            .anyMatch(line -> line.startsWith("Renderer \"default\" has rendered the spec"))
+            .noneMatch(line -> line.startsWith("Nothing has changed since the last render"));
+        assertThat(output).exists();
+    }
+
+    @Test
+    public void renderAgainIfOutputIsModified() throws IOException {
+        var testCase = new TestCase("up-to-date", 0);
+        assertThat(testCase.run().exitCode()).isZero();
+
+        Path output = testCase.directory().resolve("output/spec.json");
+        String expected = Files.readString(output);
+        Files.writeString(output, "{}");
+        RunResult result = testCase.rerun();
+        assertThat(result.exitCode()).isZero();
+        assertThat(result.getConsoleOutputToVerify())
+            .anyMatch(line -> line.startsWith("Renderer \"default\" has rendered the spec"));
+        assertThat(Files.readString(output)).isEqualTo(expected);
+    }
+
+    @Test
+    public void parseOnlyChangedSource() throws IOException {
+        var testCase = new TestCase("incremental", 0);
+        assertThat(testCase.run().getConsoleOutputToVerify())
+            .filteredOn(line -> line.startsWith("Parsing a SQL source file"))
+            .hasSize(4);
+
+        Path source = testCase.directory().resolve("customer.sql");
+        Files.writeString(source, "CREATE TABLE added (id integer);\n", StandardOpenOption.APPEND);
+        RunResult result = testCase.rerun();
+        assertThat(result.exitCode()).isZero();
+        assertThat(result.getConsoleOutputToVerify())
+            .filteredOn(line -> line.startsWith("Parsing a SQL source file"))
+            .containsExactly("Parsing a SQL source file \"customer.sql\"...");
+        Path output = testCase.directory().resolve("output/spec.json");
+        String actual = Files.readString(output);
+        assertThat(actual).contains("added");
+
+        // the same spec as the one built by parsing all sources
+        var fullParse = new TestCase("incremental", 0, "--no-cache");
+        assertThat(fullParse.rerun().exitCode()).isZero();
+        assertThat(Files.readString(output)).isEqualTo(actual);
+    }
+
+    @Test
+    public void renderFromExportedSnapshot() throws IOException {
+        var export = new TestCase("snapshot", 0, "--export-snapshot", "spec.snapshot");
+        assertThat(export.run().exitCode()).isZero();
+        Path output = export.directory().resolve("output/spec.json");
+        String expected = Files.readString(output);
+        Files.delete(output);
+        Files.delete(export.directory().resolve("schema.sql"));
+
+        var render = new TestCase("snapshot", 0, "--from-snapshot", "spec.snapshot");
+        RunResult result = render.rerun();
+        assertThat(result.exitCode()).isZero();
+        assertThat(result.getConsoleOutputToVerify())
+            .anyMatch(line -> line.startsWith("Loaded the snapshot of the spec"))
+            .noneMatch(line -> line.startsWith("Parsing a SQL source file"));
+        assertThat(Files.readString(output)).isEqualTo(expected);
+    }
+
+    @Test
+    public void renderAgainWhenWatchedSourceChanged() throws Exception {
+        var testCase = new TestCase("watch", 0, "--watch");
+        Path output = testCase.directory().resolve("output/spec.json");
+        // the output left by the previous test run
+        Files.deleteIfExists(output);
+
+        AtomicReference<RunResult> result = new AtomicReference<>();
+        var thread = new Thread(() -> result.set(testCase.run()));
+        thread.start();
+        try {
+            awaitCondition(() -> Files.exists(output) && isWaitingForChanges(thread));
+
+            Path source = testCase.directory().resolve("schema.sql");
+            Files.writeString(source, "CREATE TABLE added (id integer);\n", StandardOpenOption.APPEND);
+            awaitCondition(() -> Files.readString(output).contains("added") && isWaitingForChanges(thread));
+        } finally {
+            thread.interrupt();
+            thread.join();
+        }
+
+        assertThat(result.get().exitCode()).isZero();
+        assertThat(result.get().getConsoleOutputToVerify())
+            .contains("Detected changes in 1 file(s).")
+            .filteredOn(line -> line.startsWith("Parsing a SQL source file \"customers.sql\""))
+            .hasSize(1);
+    }
+
+    @Test
+    public void watchDirectoryCreatedLater() throws Exception {
+        var testCase = new TestCase("watch-missing-dir", 0, "--watch");
+        Path output = testCase.directory().resolve("output/spec.json");
+        Path dir = testCase.directory().resolve("extra");
+        Path source = dir.resolve("orders.sql");
+        // the directory left by the previous test run
+        Files.deleteIfExists(source);
+        Files.deleteIfExists(dir);
+
+        AtomicReference<RunResult> result = new AtomicReference<>();
+        var thread = new Thread(() -> result.set(testCase.run()));
+        thread.start();
+        try {
+            awaitCondition(() -> isWaitingForChanges(thread));
+
+            Files.createDirectories(dir);
+            Files.writeString(source, "CREATE TABLE orders (id integer);\n");
+            awaitCondition(() -> Files.exists(output) && Files.readString(output).contains("orders"));
+
+            // deletes and recreates the directory while watched
+            awaitCondition(() -> isWaitingForChanges(thread));
+            Files.delete(source);
+            Files.delete(dir);
+            awaitCondition(() -> isWaitingForChanges(thread));
+            Files.createDirectories(dir);
+            Files.writeString(source, "CREATE TABLE invoices (id integer);\n");
+            awaitCondition(() -> Files.readString(output).contains("invoices"));
+        } finally {
+            thread.interrupt();
+            thread.join();
+        }
+
+        assertThat(result.get().exitCode()).isZero();
+        assertThat(result.get().getConsoleOutputToVerify())
+            .anyMatch(line -> line.endsWith("does not exist and will be watched once created."));
+    }
+
+    @Test
+    public void renderAgainIfCacheIsDisabled() {
+        var testCase = new TestCase("up-to-date", 0, "--no-cache");
+        assertThat(testCase.run().exitCode()).isZero();
+
+        RunResult result = testCase.rerun();
+        assertThat(result.exitCode()).isZero();
+        assertThat(result.getConsoleOutputToVerify())
+            .anyMatch(line -> line.startsWith("Renderer \"default\" has rendered the spec"));
+    }
+
+    private static boolean isWaitingForChanges(Thread thread) {
+        return Stream.of(thread.getStackTrace())
+            .anyMatch(frame -> frame.getMethodName().equals("awaitChanges"));
+    }
+
+    private static void awaitCondition(Callable<Boolean> condition) throws Exception {
+        final long deadline = System.currentTimeMillis() + 30_000;
+        while (!condition.call()) {
+            assertThat(System.currentTimeMillis()).as("timed out").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
 }
@@ -0,0 +1,4 @@
+ALTER TABLE "order"
+  ADD CONSTRAINT order_customer_fk FOREIGN KEY (customer_id) REFERENCES customer (id);
+
+ALTER TABLE customer ADD UNIQUE (name);
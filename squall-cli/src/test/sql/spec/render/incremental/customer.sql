@@ -0,0 +1,5 @@
+/** Customers. */
+CREATE TABLE customer (
+  id varchar(64) PRIMARY KEY,
+  name varchar(256) NOT NULL
+);
@@ -0,0 +1,2 @@
+/** Database for orders. */
+CREATE DATABASE order_db;
@@ -0,0 +1,8 @@
+CREATE SEQUENCE order_seq;
+
+/** Orders placed by customers. */
+CREATE TABLE "order" (
+  id bigint PRIMARY KEY DEFAULT nextval('order_seq'),
+  customer_id varchar(64) NOT NULL,
+  amount numeric(10, 2) CHECK (amount > 0)
+);
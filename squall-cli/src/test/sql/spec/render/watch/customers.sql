@@ -0,0 +1,4 @@
+CREATE TABLE customers (
+    customer_id integer PRIMARY KEY,
+    name text
+);
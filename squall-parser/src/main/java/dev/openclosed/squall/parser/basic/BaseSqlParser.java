@@ -40,13 +40,15 @@ public abstract class BaseSqlParser
     private final ParserConfig config;
     private final CommentProcessor commentProcessor;
     private final MessageBundle messageBundle;
+    private final IdentifierPool identifierPool = new IdentifierPool();
 
-    private CharSequence text;
     private SqlTokenizer tokenizer;
     private int tokenNo;
 
+    // the doc comment which is processed only if captured by the following statement
+    private TextSegment docComment;
+    private int docCommentTokenNo;
     private List<DocAnnotation<?>> annotations;
-    private int annotationTokenNo;
 
     private final List<Problem> problems = new ArrayList<>();
     private int errorCount;
@@ -88,6 +90,12 @@ public abstract class BaseSqlParser
         return List.copyOf(this.problems);
     }
 
+    @Override
+    public final void setCurrentDatabase(String databaseName) {
+        Objects.requireNonNull(databaseName);
+        resolver().setCurrentDatabase(databaseName);
+    }
+
     // ParserContext
 
     @Override
@@ -98,7 +106,6 @@ public abstract class BaseSqlParser
     @Override
     public final void addAnnotations(List<DocAnnotation<?>> annotations) {
         this.annotations = List.copyOf(annotations);
-        this.annotationTokenNo = this.tokenNo;
     }
 
     @Override
@@ -163,12 +170,29 @@ public abstract class BaseSqlParser
 
     @Override
     public List<DocAnnotation<?>> captureAnnotations() {
+        TextSegment comment = this.docComment;
+        this.docComment = null;
+        if (comment == null || this.tokenNo != this.docCommentTokenNo + 1) {
+            return Collections.emptyList();
+        }
+        var location = getTokenizer().lineIndex().locationAt(comment.offset());
+        this.annotations = null;
+        commentProcessor.processComment(comment, location, this);
         List<DocAnnotation<?>> captured = this.annotations;
         this.annotations = null;
-        if (captured != null && this.tokenNo == this.annotationTokenNo + 1) {
-            return captured;
-        }
-        return Collections.emptyList();
+        return (captured != null) ? captured : Collections.emptyList();
+    }
+
+    @Override
+    public void skipStatement() {
+        getTokenizer().skipStatement();
+        // the skipped tokens are counted as one
+        this.tokenNo++;
+    }
+
+    @Override
+    public void skipCopyData() {
+        getTokenizer().skipCopyData();
     }
 
     private Token fetchToken() {
@@ -176,14 +200,22 @@ public abstract class BaseSqlParser
     }
 
     protected void reset(CharSequence text) {
-        this.text = text;
         this.problems.clear();
         this.errorCount = 0;
         this.tokenizer = createTokenizer(text, this.messageBundle);
+        this.docComment = null;
         this.annotations = null;
         this.codeFinder = null;
     }
 
+    /**
+     * Returns the pool of the identifiers shared by all texts parsed by this parser.
+     * @return the pool of the identifiers.
+     */
+    protected final IdentifierPool identifierPool() {
+        return identifierPool;
+    }
+
     protected abstract SqlTokenizer createTokenizer(
         CharSequence text, MessageBundle messageBundle);
 
@@ -193,8 +225,9 @@ public abstract class BaseSqlParser
         }
         var comment = new TextSegment(getTokenizer().text(), token.start(), token.length());
         if (commentProcessor.canProcess(comment)) {
-            var location = getTokenizer().getTokenLocation();
-            commentProcessor.processComment(comment, location, this);
+            // keeps only the range until the annotations are captured
+            this.docComment = comment;
+            this.docCommentTokenNo = this.tokenNo;
         }
     }
 
@@ -204,7 +237,8 @@ public abstract class BaseSqlParser
 
     private CodeFragmentFinder getCodeFinder() {
         if (this.codeFinder == null) {
-            this.codeFinder = new CodeFragmentFinder(this.text);
+            // shares the index of the lines with the tokenizer
+            this.codeFinder = new CodeFragmentFinder(getTokenizer().lineIndex());
         }
         return this.codeFinder;
     }
@@ -16,42 +16,40 @@
 
 package dev.openclosed.squall.parser.basic;
 
+import dev.openclosed.squall.api.text.LineIndex;
 import dev.openclosed.squall.api.text.Location;
 import dev.openclosed.squall.api.message.Message;
 import dev.openclosed.squall.api.parser.MessageBundle;
 import dev.openclosed.squall.api.parser.SqlSyntaxException;
 
-import java.math.BigDecimal;
-import java.math.BigInteger;
-
 public abstract class BaseSqlTokenizer implements SqlTokenizer {
 
     private final CharSequence text;
     private final MessageBundle messageBundle;
 
-    private int lineNo;
-    private int columnNo;
+    // only the offsets are tracked while scanning
     private int offset;
-
-    private int tokenLineNo;
-    private int tokenColumnNo;
     private int tokenOffset;
+    // built when a location is requested for the first time
+    private LineIndex lineIndex;
 
     private int currentChar;
     private boolean finished;
     private Token token;
 
-    private final StringBuilder stringBuilder = new StringBuilder();
+    private final IdentifierPool identifierPool;
 
     public static final int EOI = -1;
     private static final int NOT_FETCHED = -2;
 
     protected BaseSqlTokenizer(CharSequence text, MessageBundle messageBundle) {
+        this(text, messageBundle, new IdentifierPool());
+    }
+
+    protected BaseSqlTokenizer(CharSequence text, MessageBundle messageBundle, IdentifierPool identifierPool) {
         this.text = text;
         this.messageBundle = messageBundle;
-
-        this.lineNo = 1;
-        this.columnNo = 1;
+        this.identifierPool = identifierPool;
         this.currentChar = NOT_FETCHED;
     }
 
@@ -73,6 +71,59 @@ public abstract class BaseSqlTokenizer implements SqlTokenizer {
         this.token = null;
     }
 
+    @Override
+    public final void skipStatement() {
+        if (this.token == SpecialSymbol.SEMICOLON || this.token == Token.EOI) {
+            return;
+        }
+        // the token already fetched belongs to the statement to skip.
+        this.token = null;
+        final int length = text.length();
+        int i = this.offset;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (c == ';') {
+                break;
+            } else if (c == '\'') {
+                i = skipQuoted(i, '\'', false);
+            } else if (c == '"') {
+                i = skipQuoted(i, '"', false);
+            } else if (c == '-' && charAtOrEnd(i + 1) == '-') {
+                i = skipLine(i);
+            } else if (c == '/' && charAtOrEnd(i + 1) == '*') {
+                i = skipBlockComment(i);
+            } else if (c == '$') {
+                i = skipDollarQuoted(i);
+            } else if (isAlphabet(c) || c == '_') {
+                int end = skipWord(i);
+                if (end == i + 1 && (c == 'E' || c == 'e') && charAtOrEnd(end) == '\'') {
+                    // string constant with C-style escapes
+                    end = skipQuoted(end, '\'', true);
+                }
+                i = end;
+            } else {
+                i++;
+            }
+        }
+        advanceTo(i);
+    }
+
+    @Override
+    public final void skipCopyData() {
+        final int length = text.length();
+        // the data starts at the next line.
+        int i = skipLine(this.offset);
+        while (i < length) {
+            int lineEnd = skipLine(i);
+            boolean found = isEndOfCopyData(i, lineEnd);
+            i = lineEnd;
+            if (found) {
+                break;
+            }
+        }
+        advanceTo(i);
+    }
+
     @Override
     public final int getOffset() {
         return this.offset;
@@ -85,12 +136,20 @@ public abstract class BaseSqlTokenizer implements SqlTokenizer {
 
     @Override
     public final Location getLocation() {
-        return new Location(lineNo, columnNo, offset);
+        return lineIndex().locationAt(offset);
     }
 
     @Override
     public final Location getTokenLocation() {
-        return new Location(tokenLineNo, tokenColumnNo, tokenOffset);
+        return lineIndex().locationAt(tokenOffset);
+    }
+
+    @Override
+    public final LineIndex lineIndex() {
+        if (this.lineIndex == null) {
+            this.lineIndex = LineIndex.of(text);
+        }
+        return this.lineIndex;
     }
 
     //
@@ -113,8 +172,6 @@ public abstract class BaseSqlTokenizer implements SqlTokenizer {
         }
 
         this.tokenOffset = this.offset;
-        this.tokenLineNo = this.lineNo;
-        this.tokenColumnNo = this.columnNo;
 
         int c = nextChar();
         if (isAlphabet(c)) {
@@ -144,12 +201,11 @@ public abstract class BaseSqlTokenizer implements SqlTokenizer {
                 break;
             }
         }
-        var segment = extractTextSegment(tokenOffset, offset);
-        var keyword = findKeyword(segment);
+        var keyword = findKeyword(text, tokenOffset, offset);
         if (keyword != null) {
             return keyword;
         } else {
-            return new IdentifierToken(segment);
+            return new IdentifierToken(text, tokenOffset, offset, identifierPool);
         }
     }
 
@@ -165,38 +221,25 @@ public abstract class BaseSqlTokenizer implements SqlTokenizer {
         }
         // consumes closing quote
         consumeChar();
-        return new QuotedIdentifierToken(text, tokenOffset, offset);
+        return new QuotedIdentifierToken(text, tokenOffset, offset, identifierPool);
     }
 
     protected final Token processStringLiteralToken() {
-        var value = processStringLiteral();
-        return new StringToken(text, tokenOffset, offset, value);
-    }
-
-    private String processStringLiteral() {
         // consumes opening quote
         consumeChar();
-        var builder = getEmptyStringBuilder();
-        int start = tokenOffset + 1;
         int c;
         while ((c = nextChar()) != EOI) {
             consumeChar();
             if (c == '\'') {
                 if (nextChar() == '\'') {
-                    builder.append(text, start, offset);
-                    start = offset + 1;
                     consumeChar();
                 } else {
                     break;
                 }
             }
         }
-        if (builder.length() > 0) {
-            builder.append(text, start, offset - 1);
-            return builder.toString();
-        } else {
-            return extractTextSegment(start, offset - 1);
-        }
+        // the value is extracted when requested
+        return new StringToken(text, tokenOffset, offset);
     }
 
     private Token processBitStringLiteralToken() {
@@ -269,26 +312,28 @@ public abstract class BaseSqlTokenizer implements SqlTokenizer {
         return createNumberToken();
     }
 
-    protected abstract Keyword findKeyword(String name);
+    /**
+     * Finds a keyword in the specified range of the text.
+     * @param text the whole text.
+     * @param start the start index of the word, inclusive.
+     * @param end the end index of the word, exclusive.
+     * @return the keyword found, or {@code null} if the word is not a keyword.
+     */
+    protected abstract Keyword findKeyword(CharSequence text, int start, int end);
 
     protected abstract Token processSymbol(int c);
 
     private NumberToken createIntegerToken() {
-        String s = extractNumericText().toString();
-        return new NumberToken(TokenType.INTEGER, s, new BigInteger(s));
+        return new NumberToken(TokenType.INTEGER, text, numericTextStart(), offset);
     }
 
     private NumberToken createNumberToken() {
-        String s = extractNumericText().toString();
-        return new NumberToken(TokenType.NUMBER, s, new BigDecimal(s));
+        return new NumberToken(TokenType.NUMBER, text, numericTextStart(), offset);
     }
 
-    private CharSequence extractNumericText() {
-        String segment = extractTextSegment(tokenOffset, offset);
-        if (segment.charAt(0) == '+') {
-            segment = segment.substring(1);
-        }
-        return segment;
+    // Excludes the leading plus sign.
+    private int numericTextStart() {
+        return (text.charAt(tokenOffset) == '+') ? tokenOffset + 1 : tokenOffset;
     }
 
     protected final Token processLineComment() {
@@ -343,12 +388,8 @@ public abstract class BaseSqlTokenizer implements SqlTokenizer {
     protected final void consumeChar() {
         if (currentChar < 0) {
             return;
-        } else if (currentChar == '\n') {
-            lineNo++;
-            columnNo = 0;
         }
         offset++;
-        columnNo++;
         currentChar = NOT_FETCHED;
     }
 
@@ -369,13 +410,122 @@ public abstract class BaseSqlTokenizer implements SqlTokenizer {
         return false;
     }
 
-    private String extractTextSegment(int start, int end) {
-        return text.subSequence(start, end).toString();
+    // Moves the current position forward without creating any tokens.
+    private void advanceTo(int newOffset) {
+        this.offset = newOffset;
+        this.currentChar = NOT_FETCHED;
+    }
+
+    private int charAtOrEnd(int index) {
+        return (index < text.length()) ? text.charAt(index) : EOI;
     }
 
-    private StringBuilder getEmptyStringBuilder() {
-        this.stringBuilder.setLength(0);
-        return this.stringBuilder;
+    // Returns the index next to the closing quote, or the end of the text if the quote is not closed.
+    private int skipQuoted(int start, char quote, boolean escapes) {
+        final int length = text.length();
+        int i = start + 1;
+        while (i < length) {
+            char c = text.charAt(i++);
+            if (c == quote) {
+                if (charAtOrEnd(i) != quote) {
+                    return i;
+                }
+                i++;
+            } else if (c == '\\' && escapes) {
+                i++;
+            }
+        }
+        return length;
+    }
+
+    // Returns the index of the start of the next line.
+    private int skipLine(int start) {
+        final int length = text.length();
+        for (int i = start; i < length; i++) {
+            if (text.charAt(i) == '\n') {
+                return i + 1;
+            }
+        }
+        return length;
+    }
+
+    private int skipBlockComment(int start) {
+        final int length = text.length();
+        int nests = 1;
+        int i = start + 2;
+        while (i < length) {
+            char c = text.charAt(i++);
+            if (c == '*' && charAtOrEnd(i) == '/') {
+                i++;
+                if (--nests == 0) {
+                    return i;
+                }
+            } else if (c == '/' && charAtOrEnd(i) == '*') {
+                i++;
+                nests++;
+            }
+        }
+        return length;
+    }
+
+    private int skipWord(int start) {
+        final int length = text.length();
+        int i = start + 1;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (!isAlphabet(c) && !isDigit(c) && c != '_' && c != '$') {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    // Skips a string constant such as $$text$$ or $tag$text$tag$.
+    private int skipDollarQuoted(int start) {
+        final int length = text.length();
+        int tagEnd = start + 1;
+        while (tagEnd < length) {
+            char c = text.charAt(tagEnd);
+            if (c == '$') {
+                break;
+            } else if (isAlphabet(c) || c == '_' || (isDigit(c) && tagEnd > start + 1)) {
+                tagEnd++;
+            } else {
+                // not a dollar quote, for example a positional parameter
+                return start + 1;
+            }
+        }
+        if (tagEnd == length) {
+            return length;
+        }
+        final int tagLength = tagEnd + 1 - start;
+        for (int i = tagEnd + 1; i + tagLength <= length; i++) {
+            if (text.charAt(i) == '$' && regionMatches(i, start, tagLength)) {
+                return i + tagLength;
+            }
+        }
+        return length;
+    }
+
+    private boolean regionMatches(int offset1, int offset2, int length) {
+        for (int i = 0; i < length; i++) {
+            if (text.charAt(offset1 + i) != text.charAt(offset2 + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isEndOfCopyData(int lineStart, int lineEnd) {
+        int end = lineEnd;
+        if (end > lineStart && text.charAt(end - 1) == '\n') {
+            end--;
+        }
+        if (end > lineStart && text.charAt(end - 1) == '\r') {
+            end--;
+        }
+        return end - lineStart == 2 && text.charAt(lineStart) == '\\' && text.charAt(lineStart + 1) == '.';
     }
 
     protected static boolean isWhitespace(int c) {
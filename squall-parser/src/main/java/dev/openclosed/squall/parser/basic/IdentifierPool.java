@@ -0,0 +1,131 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.openclosed.squall.parser.basic;
+
+/**
+ * A pool of identifiers which returns the same string instance for the same name.
+ *
+ * <p>An identifier is looked up by a range of the source text,
+ * so that no string is created for a name already in the pool.
+ * The pool is owned by a parser,
+ * and all names in the specification built by the parser share the instances in the pool.</p>
+ *
+ * <p>Instances of this class are not safe for use by multiple threads.</p>
+ */
+public final class IdentifierPool {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private String[] names;
+    private int[] hashes;
+    private int size;
+
+    /**
+     * Constructs an empty pool.
+     */
+    public IdentifierPool() {
+        this.names = new String[INITIAL_CAPACITY];
+        this.hashes = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Returns the identifier in the specified range of the text.
+     * @param text the text containing the identifier.
+     * @param start the start index of the range, inclusive.
+     * @param end the end index of the range, exclusive.
+     * @param lowerCase {@code true} if ASCII letters in the identifier are converted to lower case.
+     * @return the identifier in the pool.
+     */
+    public String intern(CharSequence text, int start, int end, boolean lowerCase) {
+        final int hash = hash(text, start, end, lowerCase);
+        final int mask = this.names.length - 1;
+        int slot = hash & mask;
+        String name;
+        while ((name = this.names[slot]) != null) {
+            if (this.hashes[slot] == hash && matches(name, text, start, end, lowerCase)) {
+                return name;
+            }
+            slot = (slot + 1) & mask;
+        }
+        name = extract(text, start, end, lowerCase);
+        this.names[slot] = name;
+        this.hashes[slot] = hash;
+        // keeps the table at most half full.
+        if (++this.size * 2 > this.names.length) {
+            grow();
+        }
+        return name;
+    }
+
+    /**
+     * Returns the number of the identifiers in this pool.
+     * @return the number of the identifiers.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    private void grow() {
+        String[] oldNames = this.names;
+        int[] oldHashes = this.hashes;
+        this.names = new String[oldNames.length * 2];
+        this.hashes = new int[oldNames.length * 2];
+        final int mask = this.names.length - 1;
+        for (int i = 0; i < oldNames.length; i++) {
+            if (oldNames[i] != null) {
+                int slot = oldHashes[i] & mask;
+                while (this.names[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                this.names[slot] = oldNames[i];
+                this.hashes[slot] = oldHashes[i];
+            }
+        }
+    }
+
+    private static boolean matches(String name, CharSequence text, int start, int end, boolean lowerCase) {
+        if (name.length() != end - start) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (name.charAt(i - start) != fold(text.charAt(i), lowerCase)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(CharSequence text, int start, int end, boolean lowerCase) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + fold(text.charAt(i), lowerCase);
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static String extract(CharSequence text, int start, int end, boolean lowerCase) {
+        char[] chars = new char[end - start];
+        for (int i = start; i < end; i++) {
+            chars[i - start] = fold(text.charAt(i), lowerCase);
+        }
+        return new String(chars);
+    }
+
+    // Converts only ASCII letters, regardless of the default locale.
+    private static char fold(char c, boolean lowerCase) {
+        return (lowerCase && c >= 'A' && c <= 'Z') ? (char) (c + ('a' - 'A')) : c;
+    }
+}
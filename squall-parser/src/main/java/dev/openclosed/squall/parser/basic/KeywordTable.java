@@ -0,0 +1,132 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.openclosed.squall.parser.basic;
+
+import java.util.Collection;
+
+/**
+ * A table of keywords which finds a keyword in a range of the text,
+ * ignoring the case of ASCII letters.
+ *
+ * <p>The lookup does not create any objects.
+ * The keywords are stored in an open-addressing hash table with a low load factor,
+ * so that most lookups end with the first probe.</p>
+ *
+ * <p>Instances of this class are immutable and can be shared between threads.</p>
+ */
+public final class KeywordTable {
+
+    // the table is kept at most a quarter full.
+    private static final int LOAD_FACTOR_INVERSE = 4;
+
+    private final Keyword[] keywords;
+    private final char[][] names;
+    private final int[] hashes;
+    private final int mask;
+    private final int maxLength;
+
+    /**
+     * Constructs a table.
+     * @param keywords the keywords to store, whose canonical names must be unique and in upper case.
+     */
+    public KeywordTable(Collection<? extends Keyword> keywords) {
+        int capacity = Integer.highestOneBit(Math.max(keywords.size(), 1) * LOAD_FACTOR_INVERSE) * 2;
+        this.keywords = new Keyword[capacity];
+        this.names = new char[capacity][];
+        this.hashes = new int[capacity];
+        this.mask = capacity - 1;
+
+        int longest = 0;
+        for (Keyword keyword : keywords) {
+            char[] name = keyword.canonicalName().toCharArray();
+            int hash = hash(name, 0, name.length);
+            int slot = hash & this.mask;
+            while (this.keywords[slot] != null) {
+                if (this.keywords[slot] == keyword) {
+                    break;
+                }
+                slot = (slot + 1) & this.mask;
+            }
+            this.keywords[slot] = keyword;
+            this.names[slot] = name;
+            this.hashes[slot] = hash;
+            longest = Math.max(longest, name.length);
+        }
+        this.maxLength = longest;
+    }
+
+    /**
+     * Finds a keyword in the specified range of the text.
+     * @param text the text containing the keyword.
+     * @param start the start index of the range, inclusive.
+     * @param end the end index of the range, exclusive.
+     * @return the keyword found, or {@code null} if the range is not a keyword.
+     */
+    public Keyword find(CharSequence text, int start, int end) {
+        final int length = end - start;
+        if (length <= 0 || length > this.maxLength) {
+            return null;
+        }
+        final int hash = hash(text, start, end);
+        int slot = hash & this.mask;
+        Keyword keyword;
+        while ((keyword = this.keywords[slot]) != null) {
+            if (this.hashes[slot] == hash && matches(this.names[slot], text, start, length)) {
+                return keyword;
+            }
+            slot = (slot + 1) & this.mask;
+        }
+        return null;
+    }
+
+    private static boolean matches(char[] name, CharSequence text, int start, int length) {
+        if (name.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (name[i] != toUpperCase(text.charAt(start + i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(CharSequence text, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + toUpperCase(text.charAt(i));
+        }
+        return spread(hash);
+    }
+
+    private static int hash(char[] name, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + toUpperCase(name[i]);
+        }
+        return spread(hash);
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    // Converts only ASCII letters, regardless of the default locale.
+    private static char toUpperCase(char c) {
+        return (c >= 'a' && c <= 'z') ? (char) (c - ('a' - 'A')) : c;
+    }
+}
@@ -16,7 +16,6 @@
 
 package dev.openclosed.squall.parser.basic;
 
-import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -64,7 +63,7 @@ public interface SqlGrammar extends SqlGrammarEntry, SqlGrammarSupport, TokenPre
             switch (keyword.standard()) {
                 case CREATE -> createStatement();
                 case ALTER -> alterStatement();
-                default -> { }
+                default -> skipStatement();
             }
             find(SpecialSymbol.SEMICOLON);
         } else if (token != SpecialSymbol.SEMICOLON) {
@@ -729,9 +728,8 @@ public interface SqlGrammar extends SqlGrammarEntry, SqlGrammarSupport, TokenPre
             return baseType;
         }
         consume();
-        var firstValue = expectType(TokenType.INTEGER).value();
+        int precision = (int) expectType(TokenType.INTEGER).toLong();
         consume();
-        int precision = ((BigInteger) firstValue).intValue();
         var token = next();
         if (token == SpecialSymbol.CLOSE_PAREN) {
             consume();
@@ -742,9 +740,8 @@ public interface SqlGrammar extends SqlGrammarEntry, SqlGrammarSupport, TokenPre
         }
         consume();
 
-        var secondValue = expectType(TokenType.INTEGER).value();
+        final int scale = (int) expectType(TokenType.INTEGER).toLong();
         consume();
-        final int scale = ((BigInteger) secondValue).intValue();
 
         expect(SpecialSymbol.CLOSE_PAREN);
         consume();
@@ -851,7 +848,7 @@ public interface SqlGrammar extends SqlGrammarEntry, SqlGrammarSupport, TokenPre
 
     default long integerLiteral() {
         var token = expectType(TokenType.INTEGER);
-        long value = ((BigInteger) token.value()).longValue();
+        long value = token.toLong();
         consume();
         return value;
     }
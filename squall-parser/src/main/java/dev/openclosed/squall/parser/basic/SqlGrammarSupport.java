@@ -51,6 +51,18 @@ public interface SqlGrammarSupport {
 
     List<DocAnnotation<?>> captureAnnotations();
 
+    /**
+     * Skips the rest of the current statement without creating tokens.
+     * The terminating semicolon is left as the next token.
+     */
+    void skipStatement();
+
+    /**
+     * Skips the data following {@code COPY ... FROM STDIN}.
+     * The current token must be the semicolon terminating the statement.
+     */
+    void skipCopyData();
+
     default void find(Token token) {
         Token next;
         while ((next = next()) != token) {
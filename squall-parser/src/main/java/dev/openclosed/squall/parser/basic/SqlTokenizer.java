@@ -16,6 +16,7 @@
 
 package dev.openclosed.squall.parser.basic;
 
+import dev.openclosed.squall.api.text.LineIndex;
 import dev.openclosed.squall.api.text.Location;
 
 /**
@@ -40,6 +41,21 @@ public interface SqlTokenizer {
      */
     void consume();
 
+    /**
+     * Skips the rest of the current statement without creating any tokens.
+     * Literals, quoted identifiers and comments are skipped as a whole,
+     * so that the semicolons in them do not terminate the statement.
+     * The terminating semicolon itself is not skipped and will be returned by {@link #next()}.
+     */
+    void skipStatement();
+
+    /**
+     * Skips the data lines following {@code COPY ... FROM STDIN} without creating any tokens.
+     * The data starts at the line following the current token,
+     * and ends with the line consisting of the end-of-data marker {@code \.}, which is also skipped.
+     */
+    void skipCopyData();
+
     /**
      * Returns the current offset.
      * @return the current offset.
@@ -54,6 +70,7 @@ public interface SqlTokenizer {
 
     /**
      * Returns the current location.
+     * The line and column numbers are computed on demand.
      * @return the current location.
      */
     Location getLocation();
@@ -64,6 +81,12 @@ public interface SqlTokenizer {
      */
     Location getTokenLocation();
 
+    /**
+     * Returns the index of the lines in the input text, which is built on the first call.
+     * @return the index of the lines.
+     */
+    LineIndex lineIndex();
+
     /**
      * Returns the text of the current token.
      * @return the text of the current token.
@@ -21,6 +21,9 @@ import dev.openclosed.squall.api.sql.expression.Expression;
 import dev.openclosed.squall.api.sql.expression.NumberLiteral;
 import dev.openclosed.squall.api.sql.expression.StringLiteral;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
 /**
  * Token generated by the tokenizer.
  */
@@ -42,6 +45,10 @@ public interface Token {
         return value().toString();
     }
 
+    default long toLong() {
+        throw new UnsupportedOperationException("not a number");
+    }
+
     default Expression toLiteral() {
         throw new UnsupportedOperationException("not a literal");
     }
@@ -93,7 +100,18 @@ public interface Token {
     }
 }
 
-record BitStringToken(CharSequence wholeText, int start, int end) implements Token {
+final class BitStringToken implements Token {
+
+    private final CharSequence wholeText;
+    private final int start;
+    private final int end;
+    private String value;
+
+    BitStringToken(CharSequence wholeText, int start, int end) {
+        this.wholeText = wholeText;
+        this.start = start;
+        this.end = end;
+    }
 
     @Override
     public TokenType type() {
@@ -107,7 +125,10 @@ record BitStringToken(CharSequence wholeText, int start, int end) implements Tok
 
     @Override
     public Object value() {
-        return wholeText.subSequence(start + 2, end - 1).toString();
+        if (value == null) {
+            value = wholeText.subSequence(start + 2, end - 1).toString();
+        }
+        return value;
     }
 
     @Override
@@ -133,16 +154,42 @@ record CommentToken(TokenType type, CharSequence wholeText, int start, int end)
     }
 }
 
-record IdentifierToken(String text) implements Token {
+final class IdentifierToken implements Token {
+
+    private final CharSequence wholeText;
+    private final int start;
+    private final int end;
+    private final IdentifierPool pool;
+    private String identifier;
+
+    IdentifierToken(CharSequence wholeText, int start, int end, IdentifierPool pool) {
+        this.wholeText = wholeText;
+        this.start = start;
+        this.end = end;
+        this.pool = pool;
+    }
 
     @Override
     public TokenType type() {
         return TokenType.IDENTIFIER;
     }
 
+    @Override
+    public String text() {
+        return wholeText.subSequence(start, end).toString();
+    }
+
     @Override
     public Object value() {
-        return text().toLowerCase();
+        return toIdentifier();
+    }
+
+    @Override
+    public String toIdentifier() {
+        if (identifier == null) {
+            identifier = pool.intern(wholeText, start, end, true);
+        }
+        return identifier;
     }
 
     @Override
@@ -151,7 +198,65 @@ record IdentifierToken(String text) implements Token {
     }
 }
 
-record NumberToken(TokenType type, String text, Number value) implements Token {
+/**
+ * Token of a numeric constant.
+ *
+ * <p>The token holds only the range of the text,
+ * because most numeric constants are skipped or used only as small integers.
+ * The text and the value are extracted when requested for the first time.</p>
+ */
+final class NumberToken implements Token {
+
+    // any integer of this number of digits fits in long
+    private static final int MAX_SAFE_LONG_DIGITS = 18;
+
+    private final TokenType type;
+    private final CharSequence wholeText;
+    private final int start;
+    private final int end;
+
+    private String text;
+    private Number value;
+
+    NumberToken(TokenType type, CharSequence wholeText, int start, int end) {
+        this.type = type;
+        this.wholeText = wholeText;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public TokenType type() {
+        return type;
+    }
+
+    @Override
+    public String text() {
+        if (text == null) {
+            text = wholeText.subSequence(start, end).toString();
+        }
+        return text;
+    }
+
+    @Override
+    public Object value() {
+        if (value == null) {
+            if (type == TokenType.INTEGER) {
+                value = isSafeLong() ? BigInteger.valueOf(parseLong()) : new BigInteger(text());
+            } else {
+                value = new BigDecimal(text());
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public long toLong() {
+        if (type == TokenType.INTEGER && isSafeLong()) {
+            return parseLong();
+        }
+        return ((Number) value()).longValue();
+    }
 
     @Override
     public Expression toLiteral() {
@@ -162,13 +267,49 @@ record NumberToken(TokenType type, String text, Number value) implements Token {
     public boolean isLiteral() {
         return true;
     }
+
+    @Override
+    public String toString() {
+        return text();
+    }
+
+    private boolean isSafeLong() {
+        int digits = end - start;
+        if (wholeText.charAt(start) == '-') {
+            digits--;
+        }
+        return digits <= MAX_SAFE_LONG_DIGITS;
+    }
+
+    // Parses the integer without creating any objects.
+    private long parseLong() {
+        int i = start;
+        boolean negative = wholeText.charAt(i) == '-';
+        if (negative) {
+            i++;
+        }
+        long result = 0;
+        for (; i < end; i++) {
+            result = result * 10 + (wholeText.charAt(i) - '0');
+        }
+        return negative ? -result : result;
+    }
 }
 
-record QuotedIdentifierToken(
-    CharSequence wholeText,
-    int start,
-    int end)
-    implements Token {
+final class QuotedIdentifierToken implements Token {
+
+    private final CharSequence wholeText;
+    private final int start;
+    private final int end;
+    private final IdentifierPool pool;
+    private String identifier;
+
+    QuotedIdentifierToken(CharSequence wholeText, int start, int end, IdentifierPool pool) {
+        this.wholeText = wholeText;
+        this.start = start;
+        this.end = end;
+        this.pool = pool;
+    }
 
     @Override
     public TokenType type() {
@@ -182,7 +323,15 @@ record QuotedIdentifierToken(
 
     @Override
     public Object value() {
-        return wholeText.subSequence(start + 1, end - 1).toString();
+        return toIdentifier();
+    }
+
+    @Override
+    public String toIdentifier() {
+        if (identifier == null) {
+            identifier = pool.intern(wholeText, start + 1, end - 1, false);
+        }
+        return identifier;
     }
 
     @Override
@@ -191,7 +340,18 @@ record QuotedIdentifierToken(
     }
 }
 
-record StringToken(CharSequence wholeText, int start, int end, String value) implements Token {
+final class StringToken implements Token {
+
+    private final CharSequence wholeText;
+    private final int start;
+    private final int end;
+    private String value;
+
+    StringToken(CharSequence wholeText, int start, int end) {
+        this.wholeText = wholeText;
+        this.start = start;
+        this.end = end;
+    }
 
     @Override
     public TokenType type() {
@@ -203,6 +363,14 @@ record StringToken(CharSequence wholeText, int start, int end, String value) imp
         return wholeText.subSequence(start, end).toString();
     }
 
+    @Override
+    public String value() {
+        if (value == null) {
+            value = unescape();
+        }
+        return value;
+    }
+
     @Override
     public Expression toLiteral() {
         return StringLiteral.of(value());
@@ -212,5 +380,25 @@ record StringToken(CharSequence wholeText, int start, int end, String value) imp
     public boolean isLiteral() {
         return true;
     }
-}
 
+    // Removes the enclosing quotes and replaces each pair of quotes with a single quote.
+    private String unescape() {
+        final int contentEnd = end - 1;
+        StringBuilder builder = null;
+        int segmentStart = start + 1;
+        for (int i = segmentStart; i < contentEnd; i++) {
+            if (wholeText.charAt(i) == '\'') {
+                if (builder == null) {
+                    builder = new StringBuilder(contentEnd - start);
+                }
+                builder.append(wholeText, segmentStart, i + 1);
+                // skips the second quote
+                segmentStart = ++i + 1;
+            }
+        }
+        if (builder == null) {
+            return wholeText.subSequence(start + 1, contentEnd).toString();
+        }
+        return builder.append(wholeText, segmentStart, contentEnd).toString();
+    }
+}
@@ -26,6 +26,7 @@ import dev.openclosed.squall.api.sql.expression.Typecast;
 import dev.openclosed.squall.parser.basic.IsPredicate;
 import dev.openclosed.squall.api.sql.datatype.StandardDataType;
 import dev.openclosed.squall.parser.basic.IdentifierType;
+import dev.openclosed.squall.parser.basic.SpecialSymbol;
 import dev.openclosed.squall.parser.basic.SqlGrammar;
 import dev.openclosed.squall.parser.basic.Token;
 
@@ -39,6 +40,36 @@ interface PostgreSqlGrammar extends SqlGrammar, PostgreSqlPredicates {
 
     Map<String, DataType> SUPPORTED_DATA_TYPES = PostgreSqlDataType.valuesAsMap();
 
+    @Override
+    default void statement() {
+        if (next() == PostgreSqlKeyword.COPY) {
+            copyStatement();
+        } else {
+            SqlGrammar.super.statement();
+        }
+    }
+
+    /**
+     * Parses COPY statement, and skips the data which follows the statement if any.
+     */
+    default void copyStatement() {
+        expect(PostgreSqlKeyword.COPY);
+        consume();
+        boolean fromStdin = false;
+        Token token;
+        while ((token = next()) != SpecialSymbol.SEMICOLON) {
+            if (token == Token.EOI) {
+                unexpectedEndError();
+            } else if (token == PostgreSqlKeyword.STDIN) {
+                fromStdin = true;
+            }
+            consume();
+        }
+        if (fromStdin) {
+            skipCopyData();
+        }
+    }
+
     @Override
     default void createUnknownSchemaObject(List<DocAnnotation<?>> annotations) {
         if (next() == PostgreSqlKeyword.DATABASE) {
@@ -19,12 +19,11 @@ package dev.openclosed.squall.parser.postgresql;
 import dev.openclosed.squall.parser.basic.IdentifierType;
 import dev.openclosed.squall.parser.basic.StandardKeyword;
 import dev.openclosed.squall.parser.basic.Keyword;
+import dev.openclosed.squall.parser.basic.KeywordTable;
 import dev.openclosed.squall.parser.basic.OperatorGroup;
 
-import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.List;
+import java.util.Locale;
 
 enum PostgreSqlKeyword implements Keyword {
     A,
@@ -924,6 +923,8 @@ enum PostgreSqlKeyword implements Keyword {
 
     private final StandardKeyword standardKeyword;
     private final int options;
+    // the name used when this keyword is an identifier
+    private final String identifier = name().toLowerCase(Locale.ROOT);
 
     PostgreSqlKeyword() {
         this.standardKeyword = findStandardKeyword();
@@ -947,6 +948,11 @@ enum PostgreSqlKeyword implements Keyword {
         return this.standardKeyword;
     }
 
+    @Override
+    public String toIdentifier() {
+        return this.identifier;
+    }
+
     @Override
     public boolean isSameAs(Object obj) {
         return (this == obj || standard() == obj);
@@ -966,9 +972,8 @@ enum PostgreSqlKeyword implements Keyword {
         return (this.options & Option.FUNCTION) != 0;
     }
 
-    static Map<String, Keyword> valuesAsMap() {
-        return Stream.of(PostgreSqlKeyword.values())
-            .collect(Collectors.toMap(Keyword::canonicalName, Function.identity()));
+    static KeywordTable valuesAsTable() {
+        return new KeywordTable(List.of(PostgreSqlKeyword.values()));
     }
 
     private StandardKeyword findStandardKeyword() {
@@ -21,24 +21,23 @@ import dev.openclosed.squall.api.parser.MessageBundle;
 import dev.openclosed.squall.api.parser.ParserConfig;
 import dev.openclosed.squall.api.sql.spec.DatabaseSpec;
 import dev.openclosed.squall.parser.basic.BaseSqlParser;
-import dev.openclosed.squall.parser.basic.Keyword;
+import dev.openclosed.squall.parser.basic.KeywordTable;
 import dev.openclosed.squall.parser.basic.NameResolver;
 import dev.openclosed.squall.parser.basic.SqlTokenizer;
 
-import java.util.Map;
 
 final class PostgreSqlParser extends BaseSqlParser implements PostgreSqlGrammar {
 
     private final DatabaseSpec.Builder builder;
     private final NameResolver resolver;
-    private final Map<String, Keyword> keywords;
+    private final KeywordTable keywords;
 
     PostgreSqlParser(
         ParserConfig config,
         DatabaseSpec.Builder builder,
         CommentProcessor commentProcessor,
         MessageBundle messageBundle,
-        Map<String, Keyword> keywords) {
+        KeywordTable keywords) {
         super(config, commentProcessor, messageBundle);
         this.builder = builder;
         this.resolver = new NameResolver(config.defaultSchema());
@@ -49,7 +48,7 @@ final class PostgreSqlParser extends BaseSqlParser implements PostgreSqlGrammar
 
     @Override
     protected SqlTokenizer createTokenizer(CharSequence text, MessageBundle messageBundle) {
-        return new PostgreSqlTokenizer(text, messageBundle, this.keywords);
+        return new PostgreSqlTokenizer(text, messageBundle, this.keywords, identifierPool());
     }
 
     // SqlGrammarSupport
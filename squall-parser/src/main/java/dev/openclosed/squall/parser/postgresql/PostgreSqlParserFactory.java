@@ -23,14 +23,13 @@ import dev.openclosed.squall.api.parser.SqlParser;
 import dev.openclosed.squall.api.parser.SqlParserFactory;
 import dev.openclosed.squall.api.sql.spec.DatabaseSpec;
 import dev.openclosed.squall.api.sql.spec.Dialect;
-import dev.openclosed.squall.parser.basic.Keyword;
+import dev.openclosed.squall.parser.basic.KeywordTable;
 
-import java.util.Map;
 import java.util.Objects;
 
 public final class PostgreSqlParserFactory implements SqlParserFactory {
 
-    private Map<String, Keyword> keywords;
+    private KeywordTable keywords;
 
     @Override
     public Dialect dialect() {
@@ -57,9 +56,9 @@ public final class PostgreSqlParserFactory implements SqlParserFactory {
             getKeywords());
     }
 
-    private Map<String, Keyword> getKeywords() {
+    private synchronized KeywordTable getKeywords() {
         if (this.keywords == null) {
-            this.keywords = PostgreSqlKeyword.valuesAsMap();
+            this.keywords = PostgreSqlKeyword.valuesAsTable();
         }
         return this.keywords;
     }
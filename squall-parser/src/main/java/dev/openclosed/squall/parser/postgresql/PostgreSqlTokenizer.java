@@ -18,33 +18,43 @@ package dev.openclosed.squall.parser.postgresql;
 
 import dev.openclosed.squall.api.parser.MessageBundle;
 import dev.openclosed.squall.parser.basic.BaseSqlTokenizer;
+import dev.openclosed.squall.parser.basic.IdentifierPool;
 import dev.openclosed.squall.parser.basic.Keyword;
+import dev.openclosed.squall.parser.basic.KeywordTable;
 import dev.openclosed.squall.parser.basic.MetacommandToken;
 import dev.openclosed.squall.parser.basic.SpecialSymbol;
 import dev.openclosed.squall.parser.basic.Token;
 
 import java.util.Locale;
-import java.util.Map;
 
 final class PostgreSqlTokenizer extends BaseSqlTokenizer {
 
-    private final Map<String, Keyword> keywords;
+    private final KeywordTable keywords;
 
     PostgreSqlTokenizer(CharSequence text) {
-        this(text, MessageBundle.forLocale(Locale.getDefault()), PostgreSqlKeyword.valuesAsMap());
+        this(text, MessageBundle.forLocale(Locale.getDefault()), PostgreSqlKeyword.valuesAsTable());
     }
 
     PostgreSqlTokenizer(
         CharSequence text,
         MessageBundle messageBundle,
-        Map<String, Keyword> keywords) {
+        KeywordTable keywords) {
         super(text, messageBundle);
         this.keywords = keywords;
     }
 
+    PostgreSqlTokenizer(
+        CharSequence text,
+        MessageBundle messageBundle,
+        KeywordTable keywords,
+        IdentifierPool identifierPool) {
+        super(text, messageBundle, identifierPool);
+        this.keywords = keywords;
+    }
+
     @Override
-    protected Keyword findKeyword(String name) {
-        return this.keywords.get(name.toUpperCase());
+    protected Keyword findKeyword(CharSequence text, int start, int end) {
+        return this.keywords.find(text, start, end);
     }
 
     @Override
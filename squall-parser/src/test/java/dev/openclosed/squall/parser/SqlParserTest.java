@@ -31,6 +31,8 @@ import java.util.stream.Stream;
 
 import dev.openclosed.squall.api.util.Records;
 import dev.openclosed.squall.api.parser.SqlSyntaxException;
+import dev.openclosed.squall.api.sql.datatype.IntegerDataType;
+import dev.openclosed.squall.api.sql.snapshot.SpecSnapshot;
 import dev.openclosed.squall.api.sql.spec.DatabaseSpec;
 import dev.openclosed.squall.api.sql.expression.Expression;
 import dev.openclosed.squall.api.sql.spec.Table;
@@ -106,6 +108,13 @@ public abstract class SqlParserTest {
         Expression expression = parser.parseExpression(test.firstSql());
         assertThat(toMap(expression)).isEqualTo((test.jsonAsMap()));
         assertThat(expression.toSql()).isEqualTo(test.text());
+
+        var spec = DatabaseSpec.builder()
+            .addTable("public", "t", List.of())
+            .addTableColumn("c", IntegerDataType.INTEGER, List.of())
+            .addColumnDefaultValue(expression)
+            .build();
+        assertSnapshotRoundTrip(spec);
     }
 
     @ParameterizedTest
@@ -146,6 +155,7 @@ public abstract class SqlParserTest {
 
         DatabaseSpec spec = builder.build();
         saveSpecAsJson(fileName.replace(".sql", ".json"), spec);
+        assertSnapshotRoundTrip(spec);
     }
 
     protected abstract SqlParser createParser(DatabaseSpec.Builder builder);
@@ -178,6 +188,7 @@ public abstract class SqlParserTest {
         assertThat(sqlParser.getProblems()).isEmpty();
         var spec = builder.build();
         assertThat(toMap(spec)).isEqualTo(test.jsonAsMap());
+        assertSnapshotRoundTrip(spec);
     }
 
     protected final void testTable(SqlTestCase test) {
@@ -195,6 +206,7 @@ public abstract class SqlParserTest {
             Table table = tables.iterator().next();
             assertThat(toMap(table)).isEqualTo(test.jsonAsMap());
         }
+        assertSnapshotRoundTrip(spec);
     }
 
     protected final void testColumn(SqlTestCase test) {
@@ -207,6 +219,7 @@ public abstract class SqlParserTest {
                 .columns().iterator().next();
 
         assertThat(toMap(column)).isEqualTo(test.jsonAsMap());
+        assertSnapshotRoundTrip(spec);
     }
 
     protected final void testSequence(SqlTestCase test) {
@@ -218,6 +231,7 @@ public abstract class SqlParserTest {
             .sequences().iterator().next();
 
         assertThat(toMap(sequence)).isEqualTo(test.jsonAsMap());
+        assertSnapshotRoundTrip(spec);
     }
 
     protected final void testDataType(SqlTestCase test) {
@@ -232,6 +246,17 @@ public abstract class SqlParserTest {
         var actual = toMap(column);
 
         assertThat(actual).isEqualTo(test.jsonAsMap());
+        assertSnapshotRoundTrip(spec);
+    }
+
+    protected static void assertSnapshotRoundTrip(DatabaseSpec spec) {
+        try {
+            var loaded = SpecSnapshot.fromBytes(SpecSnapshot.toBytes(spec));
+            assertThat(loaded).isEqualTo(spec);
+            assertThat(toMap(loaded)).isEqualTo(toMap(spec));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     protected static String handleProblems(List<Problem> problems) {
@@ -24,9 +24,12 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
 
+import dev.openclosed.squall.api.text.Location;
+import dev.openclosed.squall.parser.basic.SpecialSymbol;
 import dev.openclosed.squall.parser.basic.SqlTokenizer;
 import dev.openclosed.squall.parser.basic.Token;
 import dev.openclosed.squall.parser.basic.TokenType;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -61,13 +64,56 @@ public abstract class SqlTokenizerTest {
         assertThat(actual).containsExactlyElementsOf(expected);
     }
 
+    record KeywordTest(String input, TokenType type, String text) {
+    }
+
+    public static Stream<KeywordTest> keywordTests() {
+        return Stream.of(
+                new KeywordTest("CREATE", TokenType.KEYWORD, "CREATE"),
+                new KeywordTest("create", TokenType.KEYWORD, "CREATE"),
+                new KeywordTest("CrEaTe", TokenType.KEYWORD, "CREATE"),
+                new KeywordTest("current_timestamp", TokenType.KEYWORD, "CURRENT_TIMESTAMP"),
+                new KeywordTest("creates", TokenType.IDENTIFIER, "creates"),
+                new KeywordTest("creat", TokenType.IDENTIFIER, "creat"),
+                new KeywordTest("inta", TokenType.IDENTIFIER, "inta"),
+                new KeywordTest("customer_id", TokenType.IDENTIFIER, "customer_id")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("keywordTests")
+    public void testKeywordOrIdentifier(KeywordTest test) {
+        var tokenizer = createTokenizer(test.input());
+        var token = tokenizer.next();
+        assertThat(token).isNotNull();
+        assertThat(token.type()).isEqualTo(test.type());
+        assertThat(token.text()).isEqualTo(test.text());
+    }
+
+    @Test
+    public void sameIdentifiersShouldBeSameInstance() {
+        var tokenizer = createTokenizer("Customer_ID customer_id \"customer_id\" \"Customer_ID\"");
+        List<String> identifiers = new ArrayList<>();
+        Token token;
+        while ((token = tokenizer.next()) != Token.EOI) {
+            identifiers.add(token.toIdentifier());
+            tokenizer.consume();
+        }
+        assertThat(identifiers).containsExactly("customer_id", "customer_id", "customer_id", "Customer_ID");
+        assertThat(identifiers.get(1)).isSameAs(identifiers.get(0));
+        assertThat(identifiers.get(2)).isSameAs(identifiers.get(0));
+    }
+
     record StringTest(String input, String value) {
     }
 
     public static Stream<StringTest> stringTests() {
         return Stream.of(
                 new StringTest("'This is a string'", "This is a string"),
-                new StringTest("'Dianne''s horse'", "Dianne's horse")
+                new StringTest("'Dianne''s horse'", "Dianne's horse"),
+                new StringTest("''", ""),
+                new StringTest("''''", "'"),
+                new StringTest("'a''''b'", "a''b")
         );
     }
 
@@ -109,6 +155,10 @@ public abstract class SqlTokenizerTest {
                 new NumericTest("0", TokenType.INTEGER, BigInteger.ZERO),
                 new NumericTest("1", TokenType.INTEGER, BigInteger.ONE),
                 new NumericTest("42", TokenType.INTEGER, new BigInteger("42")),
+                new NumericTest("-42", TokenType.INTEGER, new BigInteger("-42")),
+                new NumericTest("+42", TokenType.INTEGER, new BigInteger("42")),
+                new NumericTest("123456789012345678901234567890", TokenType.INTEGER,
+                    new BigInteger("123456789012345678901234567890")),
                 new NumericTest("3.5", TokenType.NUMBER, new BigDecimal("3.5")),
                 new NumericTest("4.", TokenType.NUMBER, new BigDecimal("4.")),
                 new NumericTest(".001", TokenType.NUMBER, new BigDecimal(".001")),
@@ -127,6 +177,53 @@ public abstract class SqlTokenizerTest {
         assertThat(token.value()).isEqualTo(test.value());
     }
 
+    @Test
+    public void skipStatementShouldStopAtSemicolon() {
+        var tokenizer = createTokenizer("INSERT INTO t VALUES ('a;b', 1.5);\nCREATE");
+        assertThat(tokenizer.next().text()).isEqualTo("INSERT");
+        tokenizer.skipStatement();
+        assertThat(tokenizer.next()).isSameAs(SpecialSymbol.SEMICOLON);
+        assertThat(tokenizer.getTokenLocation()).isEqualTo(new Location(1, 34, 33));
+        tokenizer.consume();
+        assertThat(tokenizer.next().text()).isEqualTo("CREATE");
+        assertThat(tokenizer.getTokenLocation()).isEqualTo(new Location(2, 1, 35));
+    }
+
+    @Test
+    public void skipCopyDataShouldStopAfterEndMarker() {
+        var tokenizer = createTokenizer("COPY t FROM stdin;\n1\t;\n\\.\nCREATE");
+        tokenizer.skipStatement();
+        assertThat(tokenizer.next()).isSameAs(SpecialSymbol.SEMICOLON);
+        tokenizer.skipCopyData();
+        tokenizer.consume();
+        assertThat(tokenizer.next().text()).isEqualTo("CREATE");
+        assertThat(tokenizer.getTokenLocation()).isEqualTo(new Location(4, 1, 26));
+    }
+
+    record LongTest(String input, long value) {
+    }
+
+    public static Stream<LongTest> longTests() {
+        return Stream.of(
+                new LongTest("0", 0),
+                new LongTest("255", 255),
+                new LongTest("-255", -255),
+                new LongTest("+255", 255),
+                new LongTest("123456789012345678", 123456789012345678L),
+                new LongTest("9223372036854775807", Long.MAX_VALUE),
+                new LongTest("-9223372036854775808", Long.MIN_VALUE)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("longTests")
+    public void testIntegerAsLong(LongTest test) {
+        var tokenizer = createTokenizer(test.input());
+        var token = tokenizer.next();
+        assertThat(token.type()).isEqualTo(TokenType.INTEGER);
+        assertThat(token.toLong()).isEqualTo(test.value());
+    }
+
     private static Stream<SqlTestCase> loadTests(String name) {
         return SqlTestCase.loadFrom(name, SqlTokenizerTest.class).stream();
     }
@@ -55,7 +55,8 @@ public final class PostgreSqlParserTest extends SqlParserTest {
     public static Stream<SqlTestCase> parseBasic() {
         return loadTests(
             "basic.md",
-            "postgresql/metacommand.md");
+            "postgresql/metacommand.md",
+            "postgresql/ignored-statement.md");
     }
 
     public static Stream<SqlTestCase> parseSourceWithErrors() {
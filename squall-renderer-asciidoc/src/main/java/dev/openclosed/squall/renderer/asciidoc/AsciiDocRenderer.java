@@ -16,6 +16,7 @@
 
 package dev.openclosed.squall.renderer.asciidoc;
 
+import dev.openclosed.squall.api.renderer.DocumentSplit;
 import dev.openclosed.squall.api.renderer.MessageBundle;
 import dev.openclosed.squall.api.renderer.RenderConfig;
 import dev.openclosed.squall.api.renderer.TextRenderer;
@@ -27,6 +28,8 @@ import java.io.UncheckedIOException;
 import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 public final class AsciiDocRenderer implements TextRenderer {
@@ -46,6 +49,12 @@ public final class AsciiDocRenderer implements TextRenderer {
         Objects.requireNonNull(spec);
         Objects.requireNonNull(dir);
         Files.createDirectories(dir);
+        if (this.config.split() != DocumentSplit.NONE) {
+            for (var page : renderPages(spec)) {
+                Files.writeString(dir.resolve(page.name() + ".adoc"), page.source());
+            }
+            return dir.resolve(this.config.basename() + ".adoc");
+        }
         Path path = dir.resolve(this.config.basename() + ".adoc");
         try (Writer writer = Files.newBufferedWriter(path)) {
             render(spec, writer);
@@ -53,6 +62,26 @@ public final class AsciiDocRenderer implements TextRenderer {
         return path;
     }
 
+    /**
+     * Renders the spec into the pages split as specified by {@link RenderConfig#split()}.
+     * @param spec the spec to render.
+     * @return the pages starting with the index page,
+     *     which is the only page if the document is not split.
+     */
+    public List<Page> renderPages(DatabaseSpec spec) {
+        Objects.requireNonNull(spec);
+        var layout = DocumentLayout.of(spec, this.config);
+        List<Page> pages = new ArrayList<>();
+        String index = layout.indexPage();
+        pages.add(new Page(index, renderPage(layout, index, writer -> writer.writeSpec(spec))));
+        for (var chunk : layout.chunks()) {
+            String source = renderPage(layout, chunk.page(), writer -> writer.writeChunk(spec, chunk.component()));
+            pages.add(new Page(chunk.page(), source));
+        }
+        MarkdownCache.getInstance().logStatistics();
+        return pages;
+    }
+
     // TextRenderer
 
     @Override
@@ -75,5 +104,32 @@ public final class AsciiDocRenderer implements TextRenderer {
     private void render(DatabaseSpec spec, Writer writer) throws IOException {
         new SpecDocumentWriter(this.config, this.bundle, writer).writeSpec(spec);
         writer.flush();
+        MarkdownCache.getInstance().logStatistics();
+    }
+
+    private String renderPage(DocumentLayout layout, String page, PageWriting writing) {
+        var builder = new StringBuilder();
+        try {
+            writing.write(new SpecDocumentWriter(this.config, this.bundle, builder, layout, page));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Writing of a page by the document writer.
+     */
+    @FunctionalInterface
+    private interface PageWriting {
+        void write(SpecDocumentWriter writer) throws IOException;
+    }
+
+    /**
+     * A page of the AsciiDoc document.
+     * @param name the name of the page without any extension.
+     * @param source the source of the page in AsciiDoc.
+     */
+    public record Page(String name, String source) {
     }
 }
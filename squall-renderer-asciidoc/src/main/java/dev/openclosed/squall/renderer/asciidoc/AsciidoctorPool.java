@@ -0,0 +1,197 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.openclosed.squall.renderer.asciidoc;
+
+import org.asciidoctor.Asciidoctor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A pool of Asciidoctor engines shared by all renderers in the process.
+ *
+ * <p>Each engine boots its own JRuby runtime, which is very expensive.
+ * The engines are therefore created lazily, reused by subsequent renders,
+ * and closed only once when the JVM exits.
+ * An engine is used by a single thread at a time.</p>
+ *
+ * <p>The maximum number of engines can be changed
+ * with the system property {@value #MAX_SIZE_PROPERTY}.</p>
+ */
+public final class AsciidoctorPool {
+
+    /**
+     * The name of the system property specifying the maximum number of engines.
+     */
+    public static final String MAX_SIZE_PROPERTY = "squall.asciidoctor.pool.maxSize";
+
+    private static final int DEFAULT_MAX_SIZE = 2;
+
+    private static final AsciidoctorPool INSTANCE = createSharedPool();
+
+    private final int maxSize;
+    private final Supplier<Asciidoctor> engineFactory;
+    // all fields below are guarded by this
+    private final Deque<Asciidoctor> idleEngines = new ArrayDeque<>();
+    private final List<Asciidoctor> allEngines = new ArrayList<>();
+    // the number of the engines created or being created
+    private int reserved;
+    private boolean closed;
+
+    /**
+     * Constructs a pool.
+     * @param maxSize the maximum number of engines.
+     * @param engineFactory the factory of the engines.
+     */
+    AsciidoctorPool(int maxSize, Supplier<Asciidoctor> engineFactory) {
+        this.maxSize = Math.max(1, maxSize);
+        this.engineFactory = engineFactory;
+    }
+
+    /**
+     * Returns the pool shared in the process.
+     * @return the shared pool.
+     */
+    public static AsciidoctorPool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the maximum number of engines, which is also the number of tasks run at the same time.
+     * @return the maximum number of engines.
+     */
+    public int maxSize() {
+        return this.maxSize;
+    }
+
+    /**
+     * Runs a task with an engine borrowed from this pool.
+     * @param task the task to run, which must not retain the engine.
+     * @param <T> the type of the result of the task.
+     * @return the result of the task.
+     * @throws IllegalStateException if this pool was already shut down,
+     *     or the current thread was interrupted while waiting for an engine.
+     */
+    public <T> T apply(Function<Asciidoctor, T> task) {
+        Asciidoctor engine = borrow();
+        try {
+            return task.apply(engine);
+        } finally {
+            release(engine);
+        }
+    }
+
+    /**
+     * Runs a task with an engine borrowed from this pool.
+     * @param task the task to run, which must not retain the engine.
+     * @throws IllegalStateException if this pool was already shut down,
+     *     or the current thread was interrupted while waiting for an engine.
+     */
+    public void accept(Consumer<Asciidoctor> task) {
+        apply(engine -> {
+            task.accept(engine);
+            return null;
+        });
+    }
+
+    /**
+     * Closes all engines created by this pool.
+     * The threads waiting for an engine fail with {@link IllegalStateException}.
+     * This method is called automatically when the JVM exits.
+     */
+    public synchronized void shutdown() {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        for (var engine : this.allEngines) {
+            engine.close();
+        }
+        this.allEngines.clear();
+        this.idleEngines.clear();
+        notifyAll();
+    }
+
+    private static AsciidoctorPool createSharedPool() {
+        var pool = new AsciidoctorPool(Integer.getInteger(MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE),
+            Asciidoctor.Factory::create);
+        Runtime.getRuntime().addShutdownHook(new Thread(pool::shutdown, "asciidoctor-pool-shutdown"));
+        return pool;
+    }
+
+    private Asciidoctor borrow() {
+        synchronized (this) {
+            for (;;) {
+                if (this.closed) {
+                    throw new IllegalStateException("Asciidoctor pool was already shut down");
+                }
+                Asciidoctor engine = this.idleEngines.poll();
+                if (engine != null) {
+                    return engine;
+                }
+                if (this.reserved < this.maxSize) {
+                    this.reserved++;
+                    break;
+                }
+                try {
+                    // woken by release, a failed creation, or shutdown
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for an Asciidoctor engine", e);
+                }
+            }
+        }
+        return createEngine();
+    }
+
+    private synchronized void release(Asciidoctor engine) {
+        if (!this.closed) {
+            this.idleEngines.add(engine);
+            notifyAll();
+        }
+    }
+
+    // Creates an engine outside the lock, because booting takes seconds.
+    private Asciidoctor createEngine() {
+        Asciidoctor engine = null;
+        try {
+            engine = this.engineFactory.get();
+        } finally {
+            if (engine == null) {
+                // gives the reservation back even if the boot has thrown an Error.
+                synchronized (this) {
+                    this.reserved--;
+                    notifyAll();
+                }
+            }
+        }
+        synchronized (this) {
+            if (this.closed) {
+                engine.close();
+                throw new IllegalStateException("Asciidoctor pool was already shut down");
+            }
+            this.allEngines.add(engine);
+        }
+        return engine;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.openclosed.squall.renderer.asciidoc;
+
+import dev.openclosed.squall.api.renderer.MessageBundle;
+import dev.openclosed.squall.api.renderer.RenderConfig;
+import dev.openclosed.squall.api.renderer.Renderer;
+import dev.openclosed.squall.api.sql.spec.DatabaseSpec;
+import org.asciidoctor.Attributes;
+import org.asciidoctor.Options;
+import org.asciidoctor.SafeMode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A renderer which converts the AsciiDoc document with Asciidoctor.
+ *
+ * <p>The AsciiDoc document is passed to Asciidoctor in memory,
+ * and written to the output directory only if
+ * {@link RenderConfig#keepAsciiDoc()} is enabled.
+ * The pages of a split document are converted concurrently
+ * with the engines borrowed from {@link AsciidoctorPool}.</p>
+ */
+public abstract class AsciidoctorRenderer implements Renderer {
+
+    private final RenderConfig config;
+    private final AsciiDocRenderer asciiDocRenderer;
+    private final String backend;
+    private final String extension;
+    private final Attributes attributes;
+
+    /**
+     * Constructs this renderer.
+     * @param config the configuration for this renderer.
+     * @param bundle the message bundle.
+     * @param backend the name of the Asciidoctor backend.
+     * @param extension the extension of the output file.
+     * @param attributes the document attributes passed to Asciidoctor.
+     */
+    protected AsciidoctorRenderer(
+        RenderConfig config,
+        MessageBundle bundle,
+        String backend,
+        String extension,
+        Attributes attributes) {
+        this.config = config;
+        this.asciiDocRenderer = new AsciiDocRenderer(config, bundle);
+        this.backend = backend;
+        this.extension = extension;
+        this.attributes = attributes;
+    }
+
+    @Override
+    public void render(DatabaseSpec spec, Path dir) throws IOException {
+        Objects.requireNonNull(spec);
+        Objects.requireNonNull(dir);
+        Files.createDirectories(dir);
+        String source = this.asciiDocRenderer.renderToString(spec);
+        convertPages(List.of(new AsciiDocRenderer.Page(this.config.basename(), source)), dir, this.attributes);
+    }
+
+    /**
+     * Returns the renderer of the intermediate AsciiDoc document.
+     * @return the renderer of the AsciiDoc document.
+     */
+    protected final AsciiDocRenderer asciiDocRenderer() {
+        return this.asciiDocRenderer;
+    }
+
+    /**
+     * Converts the pages into the output files in the directory.
+     * @param pages the pages to convert.
+     * @param dir the directory where the output files will be written, which must exist.
+     * @param attributes the document attributes passed to Asciidoctor.
+     * @throws IOException if an I/O error occurred while writing the files.
+     */
+    protected final void convertPages(List<AsciiDocRenderer.Page> pages, Path dir, Attributes attributes)
+        throws IOException {
+        // Asciidoctor requires absolute paths when converting a string.
+        Path baseDir = dir.toAbsolutePath();
+        if (pages.size() == 1) {
+            convertPage(pages.get(0), baseDir, attributes);
+            return;
+        }
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (var page : pages) {
+            tasks.add(() -> {
+                convertPage(page, baseDir, attributes);
+                return null;
+            });
+        }
+
+        // more threads than the engines would only wait for the engines.
+        int threads = Math.min(tasks.size(), AsciidoctorPool.getInstance().maxSize());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            } else if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void convertPage(AsciiDocRenderer.Page page, Path baseDir, Attributes attributes) throws IOException {
+        String source = page.source();
+        if (this.config.keepAsciiDoc()) {
+            Files.writeString(baseDir.resolve(page.name() + ".adoc"), source);
+        }
+        Path target = baseDir.resolve(page.name() + "." + this.extension);
+        AsciidoctorPool.getInstance().accept(asciidoctor ->
+            asciidoctor.convert(
+                source,
+                Options.builder()
+                    .backend(this.backend)
+                    .standalone(true)
+                    .baseDir(baseDir.toFile())
+                    .toFile(target.toFile())
+                    .safe(SafeMode.UNSAFE)
+                    .attributes(attributes)
+                    .build()
+            )
+        );
+    }
+}
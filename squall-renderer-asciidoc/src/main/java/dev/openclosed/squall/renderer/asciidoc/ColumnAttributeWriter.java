@@ -22,9 +22,12 @@ import dev.openclosed.squall.api.sql.expression.SequenceFunctionCall;
 import dev.openclosed.squall.api.sql.spec.Column;
 import dev.openclosed.squall.api.sql.expression.Expression;
 import dev.openclosed.squall.api.sql.spec.ForeignKey;
+import dev.openclosed.squall.api.sql.spec.ForeignKeyReference;
 import dev.openclosed.squall.api.sql.spec.Table;
 
+import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 enum ColumnAttributeWriter implements AttributeWriter<Column> {
     ORDINAL(">.^2") {
@@ -122,25 +125,25 @@ enum ColumnAttributeWriter implements AttributeWriter<Column> {
         @Override
         public void writeValue(Column column, int rowNo, DocBuilder builder, WriterContext context) {
             column.defaultValue().ifPresentOrElse(
-                value -> writeDefault(value, builder),
+                value -> writeDefault(value, builder, context),
                 () -> builder.append('-')
             );
         }
 
-        private void writeDefault(Expression value, DocBuilder builder) {
+        private void writeDefault(Expression value, DocBuilder builder, WriterContext context) {
             if (value instanceof SequenceFunctionCall sequence) {
-                writeSequenceFunction(sequence, builder);
+                writeSequenceFunction(sequence, builder, context);
             } else {
                 builder.appendCode(value.toSql());
             }
         }
 
-        private void writeSequenceFunction(SequenceFunctionCall sequence, DocBuilder builder) {
+        private void writeSequenceFunction(SequenceFunctionCall sequence, DocBuilder builder, WriterContext context) {
+            String fullSequenceName = sequence.fullSequenceName();
             builder.append(sequence.name())
                 .append('(')
-                .append("<<_").append(sequence.fullSequenceName())
-                .append(",").append(sequence.simpleSequenceName())
-                .append(">>)");
+                .append(context.xref(fullSequenceName, "_" + fullSequenceName, sequence.simpleSequenceName()))
+                .append(')');
         }
     },
     FOREIGN_KEY("<.^6") {
@@ -148,26 +151,53 @@ enum ColumnAttributeWriter implements AttributeWriter<Column> {
         String getValue(Column column, int rowNo, WriterContext context) {
             final String columnName = column.name();
             Table table = context.currentTable();
-            String value = table.foreignKeysContaining(columnName)
-                .map(fk -> foreignKeyToString(fk, columnName))
+            List<ForeignKey> foreignKeys = table.foreignKeysByColumn().get(columnName);
+            if (foreignKeys == null) {
+                return "-";
+            }
+            return foreignKeys.stream()
+                .map(fk -> foreignKeyToString(fk, columnName, context))
                 .distinct()
                 .collect(Collectors.joining(HARD_BREAK));
-            return value.isEmpty() ? "-" : value;
         }
 
-        private static String foreignKeyToString(ForeignKey foreignKey, String columnName) {
+        private static String foreignKeyToString(ForeignKey foreignKey, String columnName, WriterContext context) {
             String targetColumn = foreignKey.columnMapping().get(columnName);
             String fullTableName = foreignKey.fullTableName();
             return new StringBuilder()
-                .append("<<_").append(fullTableName)
-                .append(',').append(foreignKey.simpleTableName())
-                .append(">> (<<_")
-                .append(fullTableName).append('.').append(targetColumn)
-                .append(",").append(targetColumn)
-                .append(">>)")
+                .append(context.xref(fullTableName, "_" + fullTableName, foreignKey.simpleTableName()))
+                .append(" (")
+                .append(context.xref(fullTableName, "_" + fullTableName + "." + targetColumn, targetColumn))
+                .append(')')
                 .toString();
         }
     },
+    REFERENCED_BY("<.^6") {
+        @Override
+        String getValue(Column column, int rowNo, WriterContext context) {
+            final String columnName = column.name();
+            Table table = context.currentTable();
+            String value = context.currentSpec().foreignKeysReferencing(table).stream()
+                .flatMap(ref -> referenceToStrings(ref, columnName, context))
+                .distinct()
+                .collect(Collectors.joining(HARD_BREAK));
+            return value.isEmpty() ? "-" : value;
+        }
+
+        private static Stream<String> referenceToStrings(
+            ForeignKeyReference reference, String columnName, WriterContext context) {
+            String fullTableName = reference.table().fullName();
+            String simpleTableName = reference.table().name();
+            return reference.foreignKey().columnMapping().entrySet().stream()
+                .filter(entry -> entry.getValue().equals(columnName))
+                .map(entry -> new StringBuilder()
+                    .append(context.xref(fullTableName, "_" + fullTableName, simpleTableName))
+                    .append(" (")
+                    .append(context.xref(fullTableName, "_" + fullTableName + "." + entry.getKey(), entry.getKey()))
+                    .append(')')
+                    .toString());
+        }
+    },
     DESCRIPTION("<.<12a") {
         @Override
         public void writeValue(Column column, int rowNo, DocBuilder builder, WriterContext context) {
@@ -235,6 +265,7 @@ enum ColumnAttributeWriter implements AttributeWriter<Column> {
             case UNIQUE -> UNIQUE;
             case DEFAULT_VALUE -> DEFAULT_VALUE;
             case FOREIGN_KEY -> FOREIGN_KEY;
+            case REFERENCED_BY -> REFERENCED_BY;
             case DESCRIPTION -> DESCRIPTION;
         };
     }
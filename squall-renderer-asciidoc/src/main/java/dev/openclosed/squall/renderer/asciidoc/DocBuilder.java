@@ -22,7 +22,7 @@ import java.io.UncheckedIOException;
 final class DocBuilder implements BaseDocBuilder {
 
     private final Appendable appendable;
-    private final MarkdownConverter converter;
+    private MarkdownConverter converter;
 
     private static final String[] SECTION_MARKER = {
         "=", "==", "===", "====", "=====", "======", "======="
@@ -30,7 +30,6 @@ final class DocBuilder implements BaseDocBuilder {
 
     DocBuilder(Appendable appendable) {
         this.appendable = appendable;
-        this.converter = new MarkdownConverter(this);
     }
 
     @Override
@@ -96,6 +95,9 @@ final class DocBuilder implements BaseDocBuilder {
 
     //
     DocBuilder appendMarkdownText(CharSequence csq) {
+        if (this.converter == null) {
+            this.converter = new MarkdownConverter(this);
+        }
         this.converter.writeText(csq);
         return this;
     }
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.openclosed.squall.renderer.asciidoc;
+
+import dev.openclosed.squall.api.renderer.DocumentSplit;
+import dev.openclosed.squall.api.renderer.RenderConfig;
+import dev.openclosed.squall.api.sql.spec.Component;
+import dev.openclosed.squall.api.sql.spec.DatabaseSpec;
+import dev.openclosed.squall.api.sql.spec.Schema;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * The layout of the pages into which a document is written.
+ *
+ * <p>A document is written either into a single page, or into an index page
+ * and the chunks linked from it, each of which contains a schema, a table, or a sequence.
+ * The pages are identified by their names without any extension.</p>
+ */
+final class DocumentLayout {
+
+    private static final Pattern UNSAFE_CHARS = Pattern.compile("[^\\p{L}\\p{N}_.-]");
+
+    private final String indexPage;
+    // the chunks in the order of the document
+    private final List<Chunk> chunks;
+    private final Map<Component, String> chunkPages;
+    // the pages containing the tables and the sequences, keyed by their full names
+    private final Map<String, String> componentPages;
+
+    private DocumentLayout(String indexPage, List<Chunk> chunks, Map<String, String> componentPages) {
+        this.indexPage = indexPage;
+        this.chunks = List.copyOf(chunks);
+        this.chunkPages = new IdentityHashMap<>();
+        this.componentPages = componentPages;
+        for (var chunk : chunks) {
+            this.chunkPages.put(chunk.component(), chunk.page());
+        }
+    }
+
+    /**
+     * Creates a layout writing the whole document into a single page.
+     * @param basename the basename of the page.
+     * @return the layout created.
+     */
+    static DocumentLayout single(String basename) {
+        return new DocumentLayout(basename, List.of(), Map.of());
+    }
+
+    /**
+     * Creates a layout of the specified spec.
+     * @param spec the spec to be written.
+     * @param config the configuration of the renderer.
+     * @return the layout created.
+     */
+    static DocumentLayout of(DatabaseSpec spec, RenderConfig config) {
+        if (config.split() == DocumentSplit.NONE) {
+            return single(config.basename());
+        }
+        var builder = new Builder(config);
+        for (var database : spec.databases()) {
+            config.order().reorder(database.schemas()).forEach(builder::addSchema);
+        }
+        return new DocumentLayout(config.basename(), builder.chunks, builder.componentPages);
+    }
+
+    /**
+     * Returns the name of the index page, which is the only page if the document is not split.
+     * @return the name of the index page.
+     */
+    String indexPage() {
+        return indexPage;
+    }
+
+    /**
+     * Returns the chunks written into their own pages.
+     * @return the chunks in the order of the document.
+     */
+    List<Chunk> chunks() {
+        return chunks;
+    }
+
+    /**
+     * Returns the page of the chunk.
+     * @param component the component which may be written into its own page.
+     * @return the name of the page, or {@code null} if the component is not a chunk.
+     */
+    String chunkPage(Component component) {
+        return chunkPages.get(component);
+    }
+
+    /**
+     * Returns the page containing the table or the sequence.
+     * @param fullName the full name of the table or the sequence.
+     * @return the name of the page, or {@code null} if the component is not written in any chunk.
+     */
+    String pageContaining(String fullName) {
+        return componentPages.get(fullName);
+    }
+
+    /**
+     * A part of the document written into its own page.
+     * @param component the root component of the chunk.
+     * @param page the name of the page.
+     */
+    record Chunk(Component component, String page) {
+    }
+
+    private static final class Builder {
+
+        private final RenderConfig config;
+        private final List<Chunk> chunks = new ArrayList<>();
+        private final Map<String, String> componentPages = new HashMap<>();
+        private final Set<String> usedPages = new HashSet<>();
+
+        Builder(RenderConfig config) {
+            this.config = config;
+            this.usedPages.add(config.basename().toLowerCase(Locale.ROOT));
+        }
+
+        void addSchema(Schema schema) {
+            if (config.split() == DocumentSplit.SCHEMA) {
+                String page = addChunk(schema);
+                schema.children(config.order())
+                    .forEach(child -> componentPages.put(child.fullName(), page));
+                return;
+            }
+            var show = config.show();
+            schema.children(config.order())
+                .filter(child -> show.contains(child.type()))
+                .forEach(child -> componentPages.put(child.fullName(), addChunk(child)));
+        }
+
+        private String addChunk(Component component) {
+            String page = uniquePageName(component);
+            chunks.add(new Chunk(component, page));
+            return page;
+        }
+
+        // e.g. "spec.public.orders", where the leading dot of the unnamed database is removed.
+        private String uniquePageName(Component component) {
+            String name = component.fullName();
+            if (name.startsWith(".")) {
+                name = name.substring(1);
+            }
+            String stem = config.basename() + "." + UNSAFE_CHARS.matcher(name).replaceAll("_");
+            String page = stem;
+            // the names differing only in case collide on some file systems.
+            for (int i = 2; !usedPages.add(page.toLowerCase(Locale.ROOT)); i++) {
+                page = stem + "-" + i;
+            }
+            return page;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.openclosed.squall.renderer.asciidoc;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A cache of Markdown texts converted into AsciiDoc, shared by all renderers in the process.
+ *
+ * <p>Generated schemas repeat the same descriptions many times,
+ * so the results of the conversions are kept for the texts used most recently.
+ * The maximum number of entries can be changed
+ * with the system property {@value #MAX_SIZE_PROPERTY}, and zero disables the cache.</p>
+ */
+final class MarkdownCache {
+
+    /**
+     * The name of the system property specifying the maximum number of entries.
+     */
+    static final String MAX_SIZE_PROPERTY = "squall.markdown.cache.maxSize";
+
+    private static final int DEFAULT_MAX_SIZE = 1024;
+
+    private static final System.Logger LOGGER = System.getLogger(MarkdownCache.class.getName());
+
+    private static final MarkdownCache INSTANCE =
+        new MarkdownCache(Integer.getInteger(MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE));
+
+    private final int maxSize;
+    // guarded by this
+    private final Map<String, String> entries;
+    private long hits;
+    private long misses;
+
+    private MarkdownCache(int maxSize) {
+        this.maxSize = Math.max(0, maxSize);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > MarkdownCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cache shared in the process.
+     * @return the shared cache.
+     */
+    static MarkdownCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the AsciiDoc converted from the Markdown text, converting it only if not cached.
+     * @param markdown the Markdown text.
+     * @param conversion the conversion from Markdown to AsciiDoc.
+     * @return the AsciiDoc converted.
+     */
+    String get(String markdown, Function<String, String> conversion) {
+        synchronized (this) {
+            String asciidoc = this.entries.get(markdown);
+            if (asciidoc != null) {
+                this.hits++;
+                return asciidoc;
+            }
+            this.misses++;
+        }
+        // converts outside the lock, as the same text converted twice does no harm.
+        String asciidoc = conversion.apply(markdown);
+        if (this.maxSize > 0) {
+            synchronized (this) {
+                this.entries.put(markdown, asciidoc);
+            }
+        }
+        return asciidoc;
+    }
+
+    /**
+     * Logs the statistics of this cache at the debug level.
+     */
+    synchronized void logStatistics() {
+        if (!LOGGER.isLoggable(System.Logger.Level.DEBUG)) {
+            return;
+        }
+        long lookups = this.hits + this.misses;
+        double hitRate = (lookups > 0) ? 100.0 * this.hits / lookups : 0.0;
+        LOGGER.log(System.Logger.Level.DEBUG,
+            String.format("Markdown cache: %d hits, %d misses (hit rate %.1f%%), %d entries",
+                this.hits, this.misses, hitRate, this.entries.size()));
+    }
+}
@@ -43,10 +43,17 @@ import java.util.regex.Pattern;
 
 /**
  * A converter that converts Markdown to AsciiDoc.
+ *
+ * <p>Plain texts without any Markdown syntax are written as they are, without parsing.
+ * Other texts are converted once and then reused through {@link MarkdownCache}.</p>
  */
 final class MarkdownConverter extends AbstractVisitor {
 
+    // the builder receiving the converted text
+    private final BaseDocBuilder target;
+    // the builder receiving the nodes visited
     private final BaseDocBuilder builder;
+    private final StringBuilder buffer;
     private final Parser parser;
     private boolean firstBlock;
     private int listLevel;
@@ -79,17 +86,57 @@ final class MarkdownConverter extends AbstractVisitor {
 
     private static final Pattern HTML_BREAK = Pattern.compile("<br\\s*/?>");
 
-    MarkdownConverter(BaseDocBuilder builder) {
-        this.builder = builder;
+    // ASCII characters which never start any Markdown syntax in the middle of a line
+    private static final String PLAIN_PUNCTUATIONS = " \"$%'(),./:;?@^{}";
+
+    MarkdownConverter(BaseDocBuilder target) {
+        this.target = target;
+        this.buffer = new StringBuilder();
+        this.builder = new DocBuilder(this.buffer);
         this.parser = Parser.builder().build();
     }
 
     void writeText(CharSequence csq) {
+        String text = csq.toString();
+        if (isPlainText(text)) {
+            // same as a paragraph containing only the text.
+            target.append(text).appendNewLine();
+        } else {
+            target.append(MarkdownCache.getInstance().get(text, this::convert));
+        }
+    }
+
+    private String convert(String text) {
         this.firstBlock = true;
         this.listLevel = 0;
+        this.buffer.setLength(0);
 
-        Node node = this.parser.parse(csq.toString());
+        Node node = this.parser.parse(text);
         node.accept(this);
+        return this.buffer.toString();
+    }
+
+    /**
+     * Checks if the text is a single line without any Markdown syntax.
+     * @param text the text to check.
+     * @return {@code true} if the text is converted into itself.
+     */
+    static boolean isPlainText(String text) {
+        final int length = text.length();
+        if (length == 0 || text.charAt(0) == ' ' || text.charAt(length - 1) == ' ') {
+            return false;
+        }
+        // may be a marker of an ordered list.
+        if (Character.isDigit(text.charAt(0))) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80 && !Character.isLetterOrDigit(c) && PLAIN_PUNCTUATIONS.indexOf(c) < 0) {
+                return false;
+            }
+        }
+        return true;
     }
 
     // org.commonmark.node.Visitor
@@ -41,6 +41,8 @@ final class SpecDocumentWriter implements SpecVisitor, WriterContext {
     private final RenderConfig config;
     private final MessageBundle bundle;
     private final DocBuilder builder;
+    private final DocumentLayout layout;
+    private final String currentPage;
 
     private final Set<Component.Type> show;
 
@@ -49,12 +51,26 @@ final class SpecDocumentWriter implements SpecVisitor, WriterContext {
 
     private int level;
 
+    private DatabaseSpec currentSpec;
     private Table currentTable;
+    private Component currentChunk;
+    private boolean inList;
 
     SpecDocumentWriter(RenderConfig config, MessageBundle bundle, Appendable appendable) {
+        this(config, bundle, appendable, DocumentLayout.single(config.basename()), config.basename());
+    }
+
+    SpecDocumentWriter(
+        RenderConfig config,
+        MessageBundle bundle,
+        Appendable appendable,
+        DocumentLayout layout,
+        String currentPage) {
         this.config = config;
         this.bundle = bundle;
         this.builder = new DocBuilder(appendable);
+        this.layout = layout;
+        this.currentPage = currentPage;
 
         this.show = config.show();
 
@@ -66,7 +82,10 @@ final class SpecDocumentWriter implements SpecVisitor, WriterContext {
 
     void writeSpec(DatabaseSpec spec) throws IOException {
         this.level = 0;
+        this.currentSpec = spec;
         this.currentTable = null;
+        this.currentChunk = null;
+        this.inList = false;
         try {
             startSpec(spec);
             spec.walkSpec(config.order(), this);
@@ -76,6 +95,28 @@ final class SpecDocumentWriter implements SpecVisitor, WriterContext {
         }
     }
 
+    /**
+     * Writes a chunk of the spec as a document of its own.
+     * @param spec the spec containing the chunk.
+     * @param chunk the root component of the chunk.
+     * @throws IOException if an I/O error occurred while writing.
+     */
+    void writeChunk(DatabaseSpec spec, Component chunk) throws IOException {
+        this.level = 0;
+        this.currentSpec = spec;
+        this.currentTable = null;
+        this.currentChunk = chunk;
+        this.inList = false;
+        try {
+            startSpec(spec);
+            writeLinkToIndex(spec);
+            chunk.accept(this);
+            finishSpec();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
     // SpecVisitor
 
     @Override
@@ -92,6 +133,9 @@ final class SpecDocumentWriter implements SpecVisitor, WriterContext {
 
     @Override
     public void visit(Schema schema) {
+        if (writeLinkToChunk(schema)) {
+            return;
+        }
         if (!shouldRender(Component.Type.SCHEMA)) {
             visitChildren(schema);
             return;
@@ -109,7 +153,7 @@ final class SpecDocumentWriter implements SpecVisitor, WriterContext {
 
     @Override
     public void visit(Sequence sequence) {
-        if (!shouldRender(Component.Type.SEQUENCE)) {
+        if (!shouldRender(Component.Type.SEQUENCE) || writeLinkToChunk(sequence)) {
             return;
         }
 
@@ -124,7 +168,7 @@ final class SpecDocumentWriter implements SpecVisitor, WriterContext {
 
     @Override
     public void visit(Table table) {
-        if (!shouldRender(Component.Type.TABLE)) {
+        if (!shouldRender(Component.Type.TABLE) || writeLinkToChunk(table)) {
             return;
         }
 
@@ -162,11 +206,26 @@ final class SpecDocumentWriter implements SpecVisitor, WriterContext {
         return this.bundle;
     }
 
+    @Override
+    public DatabaseSpec currentSpec() {
+        return this.currentSpec;
+    }
+
     @Override
     public Table currentTable() {
         return this.currentTable;
     }
 
+    @Override
+    public String xref(String fullName, String id, String text) {
+        String page = layout.pageContaining(fullName);
+        if (page == null || page.equals(currentPage)) {
+            return "<<" + id + "," + text + ">>";
+        }
+        // {empty} keeps the underscore after the hash from starting an emphasis.
+        return "<<" + page + ".adoc#{empty}" + id + "," + text + ">>";
+    }
+
     //
 
     private void startSpec(DatabaseSpec spec) {
@@ -202,6 +261,7 @@ final class SpecDocumentWriter implements SpecVisitor, WriterContext {
     }
 
     private void writeHeading(Component component) {
+        this.inList = false;
         builder.appendNewLine();
         writeSectionAnchor(component);
         builder.appendSectionMarker(level);
@@ -276,6 +336,28 @@ final class SpecDocumentWriter implements SpecVisitor, WriterContext {
         builder.appendNewLine();
     }
 
+    private void writeLinkToIndex(DatabaseSpec spec) {
+        builder.appendNewLine()
+            .append("<<").append(layout.indexPage()).append(".adoc#,")
+            .append(spec.metadata().title()).append(">>").appendNewLine();
+    }
+
+    // Writes an item of the list linking to the chunk, instead of the component itself.
+    private boolean writeLinkToChunk(Component component) {
+        String page = layout.chunkPage(component);
+        if (page == null || component == currentChunk) {
+            return false;
+        }
+        if (!inList) {
+            builder.appendNewLine();
+            inList = true;
+        }
+        builder.append("* <<").append(page).append(".adoc#,")
+            .append(component.label().orElse(component.qualifiedName()))
+            .append(">>").appendNewLine();
+        return true;
+    }
+
     private void writeColumnAnchor(Column column) {
         String fullName = column.fullName();
         builder.append("[[_").append(fullName).append("]]");
@@ -17,6 +17,7 @@
 package dev.openclosed.squall.renderer.asciidoc;
 
 import dev.openclosed.squall.api.renderer.MessageBundle;
+import dev.openclosed.squall.api.sql.spec.DatabaseSpec;
 import dev.openclosed.squall.api.sql.spec.Table;
 
 /**
@@ -26,5 +27,17 @@ interface WriterContext {
 
     MessageBundle bundle();
 
+    DatabaseSpec currentSpec();
+
     Table currentTable();
+
+    /**
+     * Returns the cross reference to the element in the table or the sequence,
+     * which may be written into another page.
+     * @param fullName the full name of the table or the sequence containing the element.
+     * @param id the ID of the element.
+     * @param text the text of the reference.
+     * @return the cross reference in AsciiDoc.
+     */
+    String xref(String fullName, String id, String text);
 }
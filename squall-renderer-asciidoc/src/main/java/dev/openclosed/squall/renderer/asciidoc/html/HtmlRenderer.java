@@ -16,71 +16,100 @@
 
 package dev.openclosed.squall.renderer.asciidoc.html;
 
+import dev.openclosed.squall.api.renderer.DocumentSplit;
 import dev.openclosed.squall.api.renderer.MessageBundle;
 import dev.openclosed.squall.api.renderer.RenderConfig;
 import dev.openclosed.squall.api.renderer.TextRenderer;
 import dev.openclosed.squall.api.sql.spec.DatabaseSpec;
 import dev.openclosed.squall.renderer.asciidoc.AsciiDocRenderer;
-import org.asciidoctor.Asciidoctor;
+import dev.openclosed.squall.renderer.asciidoc.AsciidoctorRenderer;
 import org.asciidoctor.Attributes;
-import org.asciidoctor.Options;
+import org.asciidoctor.AttributesBuilder;
 import org.asciidoctor.Placement;
-import org.asciidoctor.SafeMode;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
 
-final class HtmlRenderer implements TextRenderer {
+final class HtmlRenderer extends AsciidoctorRenderer implements TextRenderer {
 
     private static final String STYLE_DIR = AsciiDocRenderer.RESOURCE_DIR + "/style";
 
-    private final AsciiDocRenderer asciiDocRenderer;
     private static final String BACKEND_NAME = "html5";
-    private final Attributes attributes;
+
+    private final RenderConfig config;
+    // the attributes of the split pages sharing an external style sheet
+    private final Attributes splitAttributes;
 
     HtmlRenderer(RenderConfig config, MessageBundle bundle) {
-        this.asciiDocRenderer = new AsciiDocRenderer(config, bundle);
-        this.attributes = buildAttributes(config);
+        super(config, bundle, BACKEND_NAME, "html", buildAttributes(config));
+        this.config = config;
+        this.splitAttributes = buildSplitAttributes(config);
     }
 
     @Override
     public void render(DatabaseSpec spec, Path dir) throws IOException {
-        Path path = this.asciiDocRenderer.renderToFile(spec, dir);
-        try (var asciidoctor = Asciidoctor.Factory.create()) {
-            asciidoctor.convertFile(
-                path.toFile(),
-                Options.builder()
-                    .backend(BACKEND_NAME)
-                    .toFile(true)
-                    .safe(SafeMode.UNSAFE)
-                    .attributes(this.attributes)
-                    .build()
-            );
+        if (this.config.split() == DocumentSplit.NONE) {
+            super.render(spec, dir);
+            return;
         }
+        Objects.requireNonNull(spec);
+        Objects.requireNonNull(dir);
+        Files.createDirectories(dir);
+        copyStyleSheet(dir);
+        convertPages(asciiDocRenderer().renderPages(spec), dir, this.splitAttributes);
     }
 
     @Override
     public String renderToString(DatabaseSpec spec) {
-        return this.asciiDocRenderer.renderToString(spec);
+        return asciiDocRenderer().renderToString(spec);
+    }
+
+    private void copyStyleSheet(Path dir) throws IOException {
+        String resource = "style/" + styleSheetName(this.config);
+        try (var in = AsciiDocRenderer.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Style sheet was not found: " + resource);
+            }
+            Files.copy(in, dir.resolve(sharedStyleSheetName(this.config)), StandardCopyOption.REPLACE_EXISTING);
+        }
     }
 
     private static Attributes buildAttributes(RenderConfig config) {
-        var builder = Attributes.builder()
+        return baseAttributes(config)
+            .stylesDir(STYLE_DIR)
+            .styleSheetName(styleSheetName(config))
+            .build();
+    }
+
+    private static Attributes buildSplitAttributes(RenderConfig config) {
+        return baseAttributes(config)
+            .linkCss(true)
+            .copyCss(false)
+            .stylesDir(".")
+            .styleSheetName(sharedStyleSheetName(config))
+            .build();
+    }
+
+    private static AttributesBuilder baseAttributes(RenderConfig config) {
+        return Attributes.builder()
             .attribute("lang", config.locale().getLanguage())
             .sectionNumbers(config.numbering())
             .tableOfContents(true)
-            .tableOfContents(Placement.LEFT)
-            .stylesDir(STYLE_DIR);
+            .tableOfContents(Placement.LEFT);
+    }
 
-        switch (config.locale().getLanguage()) {
-            case "ja" -> {
-                builder.styleSheetName("style-ja.css");
-            }
-            default -> {
-                builder.styleSheetName("style.css");
-            }
-        }
+    private static String styleSheetName(RenderConfig config) {
+        return switch (config.locale().getLanguage()) {
+            case "ja" -> "style-ja.css";
+            default -> "style.css";
+        };
+    }
 
-        return builder.build();
+    // The style sheet is written once and linked from all the pages.
+    private static String sharedStyleSheetName(RenderConfig config) {
+        return config.basename() + ".css";
     }
 }
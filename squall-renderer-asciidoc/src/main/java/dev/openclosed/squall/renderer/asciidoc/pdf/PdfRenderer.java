@@ -18,47 +18,21 @@ package dev.openclosed.squall.renderer.asciidoc.pdf;
 
 import dev.openclosed.squall.api.renderer.MessageBundle;
 import dev.openclosed.squall.api.renderer.RenderConfig;
-import dev.openclosed.squall.api.renderer.Renderer;
-import dev.openclosed.squall.api.sql.spec.DatabaseSpec;
 import dev.openclosed.squall.renderer.asciidoc.AsciiDocRenderer;
-import org.asciidoctor.Asciidoctor;
+import dev.openclosed.squall.renderer.asciidoc.AsciidoctorRenderer;
 import org.asciidoctor.Attributes;
-import org.asciidoctor.Options;
-import org.asciidoctor.SafeMode;
 
-import java.io.IOException;
-import java.nio.file.Path;
 import java.util.stream.Collectors;
 
-final class PdfRenderer implements Renderer {
+final class PdfRenderer extends AsciidoctorRenderer {
 
     private static final String BACKEND_NAME = "pdf";
 
     private static final String FONTS_DIR = AsciiDocRenderer.RESOURCE_DIR + "/fonts";
     private static final String THEMES_DIR = AsciiDocRenderer.RESOURCE_DIR + "/themes";
 
-    private final AsciiDocRenderer asciiDocRenderer;
-    private final Attributes attributes;
-
     PdfRenderer(RenderConfig config, MessageBundle bundle) {
-        this.asciiDocRenderer = new AsciiDocRenderer(config, bundle);
-        this.attributes = buildAttributes(config);
-    }
-
-    @Override
-    public void render(DatabaseSpec spec, Path dir) throws IOException {
-        Path path = this.asciiDocRenderer.renderToFile(spec, dir);
-        try (var asciidoctor = Asciidoctor.Factory.create()) {
-            asciidoctor.convertFile(
-                path.toFile(),
-                Options.builder()
-                    .backend(BACKEND_NAME)
-                    .toFile(true)
-                    .safe(SafeMode.UNSAFE)
-                    .attributes(this.attributes)
-                    .build()
-            );
-        }
+        super(config, bundle, BACKEND_NAME, "pdf", buildAttributes(config));
     }
 
     private static Attributes buildAttributes(RenderConfig config) {
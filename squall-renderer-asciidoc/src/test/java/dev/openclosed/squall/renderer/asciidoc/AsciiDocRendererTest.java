@@ -29,6 +29,7 @@ import dev.openclosed.squall.renderer.asciidoc.html.HtmlRendererFactory;
 import dev.openclosed.squall.renderer.asciidoc.pdf.PdfRendererFactory;
 import org.apache.commons.io.file.PathUtils;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -78,6 +79,24 @@ public class AsciiDocRendererTest {
             .endsWith("</html>");
     }
 
+    @Test
+    public void testSplitHtmlRendererForPostgresql() throws IOException {
+        Path outputDir = testRenderer("split-by-table", Dialect.POSTGRESQL, "html");
+        assertThat(outputDir.resolve("spec.css")).exists();
+        assertThat(outputDir.resolve("spec.sales.order_seq.html")).exists();
+        assertThat(Files.readString(outputDir.resolve("spec.html")))
+            .contains("<link rel=\"stylesheet\" href=\"./spec.css\">")
+            .contains("href=\"spec.public.products.html\"")
+            .contains("href=\"spec.sales.orders.html\"");
+        assertThat(Files.readString(outputDir.resolve("spec.public.products.html")))
+            .contains("<link rel=\"stylesheet\" href=\"./spec.css\">")
+            .contains("href=\"spec.html\"")
+            .contains("href=\"spec.sales.orders.html#_.sales.orders.product_no\"");
+        assertThat(Files.readString(outputDir.resolve("spec.sales.orders.html")))
+            .contains("href=\"spec.sales.order_seq.html#_.sales.order_seq\"")
+            .contains("href=\"#_.sales.orders.parent_id\"");
+    }
+
     @EnabledIfSystemProperty(named = "test.full", matches = ".*")
     @ParameterizedTest()
     @MethodSource("postgresqlTests")
@@ -99,6 +118,7 @@ public class AsciiDocRendererTest {
         var renderer = rendererFactory.createRenderer(config, config.locale());
         var dir = prepareDirectory(dialect, title, format);
         renderer.render(spec, dir);
+        assertThat(Files.exists(dir.resolve("spec.adoc"))).isEqualTo(config.keepAsciiDoc());
 
         return dir;
     }
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.openclosed.squall.renderer.asciidoc;
+
+import org.asciidoctor.Asciidoctor;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AsciidoctorPoolTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Test
+    public void concurrentBorrowersFailIfEnginesCannotBeCreated() throws Exception {
+        var pool = new AsciidoctorPool(2, () -> {
+            sleep(50);
+            throw new IllegalStateException("boot failed");
+        });
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> pool.accept(engine -> { })));
+            }
+            for (var future : futures) {
+                assertThatThrownBy(() -> future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasRootCauseMessage("boot failed");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void errorWhileCreatingEngineDoesNotReduceCapacity() {
+        var created = new AtomicInteger();
+        var pool = new AsciidoctorPool(1, () -> {
+            if (created.getAndIncrement() == 0) {
+                throw new LinkageError("boot failed");
+            }
+            return fakeEngine();
+        });
+
+        assertThatThrownBy(() -> pool.accept(engine -> { })).isInstanceOf(LinkageError.class);
+        String result = pool.apply(engine -> "done");
+        assertThat(result).isEqualTo("done");
+    }
+
+    @Test
+    public void shutdownWakesWaitingBorrower() throws Exception {
+        var pool = new AsciidoctorPool(1, AsciidoctorPoolTest::fakeEngine);
+        var borrowed = new CountDownLatch(1);
+        var finish = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            executor.submit(() -> pool.accept(engine -> {
+                borrowed.countDown();
+                await(finish);
+            }));
+            assertThat(borrowed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+
+            Future<?> waiting = executor.submit(() -> pool.accept(engine -> { }));
+            // gives the second borrower time to start waiting
+            sleep(100);
+            pool.shutdown();
+
+            assertThatThrownBy(() -> waiting.get(TIMEOUT_SECONDS, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        } finally {
+            finish.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    // Returns an engine which does nothing.
+    private static Asciidoctor fakeEngine() {
+        return (Asciidoctor) Proxy.newProxyInstance(
+            Asciidoctor.class.getClassLoader(),
+            new Class<?>[] {Asciidoctor.class},
+            (proxy, method, args) -> null);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
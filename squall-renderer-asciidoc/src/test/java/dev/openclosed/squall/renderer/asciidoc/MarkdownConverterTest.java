@@ -17,6 +17,7 @@
 package dev.openclosed.squall.renderer.asciidoc;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -52,6 +53,44 @@ public class MarkdownConverterTest {
         assertThat(actual).isEqualTo(expected);
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "Creation timestamp.",
+        "Row version, incremented on each update (optional).",
+        "The price in USD/EUR: 100% of the list price?",
+        "書籍のタイトル。"
+    })
+    public void plainTextShouldBeWrittenAsIs(String text) {
+        assertThat(MarkdownConverter.isPlainText(text)).isTrue();
+        this.converter.writeText(text);
+        assertThat(this.stringWriter.toString()).isEqualTo(text + "\n");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "",
+        " Leading space",
+        "1. Ordered list item",
+        "Text with *emphasis*",
+        "Text with `code`",
+        "[Link](https://example.com)",
+        "First line\nsecond line",
+        "Snake_case_name",
+        "R&amp;D"
+    })
+    public void textWithMarkdownSyntaxShouldBeParsed(String text) {
+        assertThat(MarkdownConverter.isPlainText(text)).isFalse();
+    }
+
+    @Test
+    public void sameTextShouldBeConvertedIntoSameOutput() {
+        String text = "Row version, **incremented** on each update.";
+        this.converter.writeText(text);
+        this.converter.writeText(text);
+        assertThat(this.stringWriter.toString()).isEqualTo(
+            "Row version, **incremented** on each update.\n".repeat(2));
+    }
+
     private String readText(String resourceName) throws IOException {
         var in = getClass().getResourceAsStream(resourceName);
         if (in == null) {
@@ -0,0 +1,17 @@
+CREATE SCHEMA sales;
+
+/**
+ * @label Products
+ */
+CREATE TABLE products (
+  product_no integer PRIMARY KEY,
+  name text
+);
+
+CREATE SEQUENCE sales.order_seq;
+
+CREATE TABLE sales.orders (
+    order_id integer PRIMARY KEY DEFAULT nextval('sales.order_seq'),
+    product_no integer REFERENCES products (product_no),
+    parent_id integer REFERENCES sales.orders (order_id)
+);
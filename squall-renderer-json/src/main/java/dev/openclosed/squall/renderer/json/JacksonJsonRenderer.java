@@ -23,11 +23,11 @@ import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
-import dev.openclosed.squall.api.util.Records;
 import dev.openclosed.squall.api.renderer.RenderConfig;
 import dev.openclosed.squall.api.renderer.TextRenderer;
 import dev.openclosed.squall.api.sql.spec.DatabaseSpec;
@@ -63,7 +63,9 @@ final class JacksonJsonRenderer implements TextRenderer {
     }
 
     private void render(DatabaseSpec spec, Writer writer) throws IOException {
-        this.objectMapper.writeValue(writer, Records.toMap(spec));
+        try (JsonGenerator generator = this.objectMapper.createGenerator(writer)) {
+            new JsonSpecWriter(generator).writeSpec(spec);
+        }
     }
 
     private ObjectMapper buildObjectMapper(RenderConfig config) {
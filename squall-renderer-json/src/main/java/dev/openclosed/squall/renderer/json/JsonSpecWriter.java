@@ -0,0 +1,118 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.openclosed.squall.renderer.json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import dev.openclosed.squall.api.sql.spec.Column;
+import dev.openclosed.squall.api.sql.spec.Component;
+import dev.openclosed.squall.api.sql.spec.Database;
+import dev.openclosed.squall.api.sql.spec.DatabaseSpec;
+import dev.openclosed.squall.api.sql.spec.Schema;
+import dev.openclosed.squall.api.sql.spec.Sequence;
+import dev.openclosed.squall.api.sql.spec.SpecVisitor;
+import dev.openclosed.squall.api.sql.spec.Table;
+import dev.openclosed.squall.api.util.Records;
+
+/**
+ * A writer of the specification which streams the components to a JSON generator.
+ *
+ * <p>The components are written one by one while walking the specification,
+ * and only the small values held by each component, such as the constraints and the annotations,
+ * are converted into maps before writing.
+ * The output is the same as {@link Records#toMap(Record)} of the whole specification serialized.</p>
+ */
+final class JsonSpecWriter implements SpecVisitor {
+
+    private final JsonGenerator generator;
+
+    JsonSpecWriter(JsonGenerator generator) {
+        this.generator = generator;
+    }
+
+    void writeSpec(DatabaseSpec spec) throws IOException {
+        try {
+            writeRecord(spec);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // SpecVisitor
+
+    @Override
+    public void visit(Database database) {
+        writeRecord(database);
+    }
+
+    @Override
+    public void visit(Schema schema) {
+        writeRecord(schema);
+    }
+
+    @Override
+    public void visit(Sequence sequence) {
+        writeRecord(sequence);
+    }
+
+    @Override
+    public void visit(Table table) {
+        writeRecord(table);
+    }
+
+    @Override
+    public void visit(Column column) {
+        writeRecord(column);
+    }
+
+    //
+
+    private void writeRecord(Record rec) {
+        try {
+            generator.writeStartObject();
+            Records.forEachProperty(rec, this::writeProperty);
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeProperty(String name, Object value) {
+        try {
+            generator.writeFieldName(name);
+            if (isComponentList(value)) {
+                generator.writeStartArray();
+                for (var element : (List<?>) value) {
+                    ((Component) element).accept(this);
+                }
+                generator.writeEndArray();
+            } else {
+                generator.writeObject(Records.toValue(value));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Lists of the child components are never empty here, as empty lists are omitted.
+    private static boolean isComponentList(Object value) {
+        return value instanceof List<?> list && !list.isEmpty() && list.get(0) instanceof Component;
+    }
+}
@@ -24,6 +24,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.stream.Collectors;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import dev.openclosed.squall.api.parser.CommentProcessor;
 import dev.openclosed.squall.api.sql.spec.DatabaseSpec;
 import dev.openclosed.squall.api.sql.spec.Dialect;
@@ -36,6 +40,8 @@ import dev.openclosed.squall.api.parser.ParserConfig;
 import dev.openclosed.squall.api.parser.SqlParserFactory;
 import dev.openclosed.squall.api.renderer.RenderConfig;
 import dev.openclosed.squall.api.renderer.RendererFactory;
+import dev.openclosed.squall.api.renderer.TextRenderer;
+import dev.openclosed.squall.api.util.Records;
 
 public final class JsonRendererTest {
 
@@ -53,6 +59,7 @@ public final class JsonRendererTest {
     @ParameterizedTest
     @ValueSource(strings = {
         "sample",
+        "components",
         "empty"
     })
     public void testRenderer(String name) throws IOException {
@@ -64,6 +71,23 @@ public final class JsonRendererTest {
         renderer.render(spec, dir);
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "sample",
+        "components",
+        "empty"
+    })
+    public void renderedJsonShouldBeSameAsSerializedMap(String name) throws IOException {
+        var spec = parseSpec(name + ".sql");
+        var mapper = JsonMapper.builder()
+            .configure(SerializationFeature.INDENT_OUTPUT, true)
+            .build();
+        String expected = mapper.writeValueAsString(Records.toMap(spec));
+
+        var renderer = (TextRenderer) rendererFactory.createRenderer(RenderConfig.getDefault());
+        assertThat(renderer.renderToString(spec)).isEqualTo(expected);
+    }
+
     private DatabaseSpec parseSpec(String name) throws IOException {
         var sql = readResource(name);
         var builder = DatabaseSpec.builder();
@@ -0,0 +1,40 @@
+/**
+ * The schema of sales.
+ * @label Sales
+ */
+CREATE SCHEMA sales;
+
+/**
+ * Sequence for orders.
+ */
+CREATE SEQUENCE sales.order_seq AS bigint START WITH 100 INCREMENT BY -1 MAXVALUE 1000 MINVALUE 1;
+
+CREATE TABLE sales.products (
+    product_no integer PRIMARY KEY,
+    /**
+     * The name of the product.
+     * @label Product name
+     * @since 1.2
+     */
+    name varchar(100) NOT NULL UNIQUE,
+    price numeric(10, 2) DEFAULT 9.99,
+    active boolean DEFAULT false,
+    tag char(8) DEFAULT 'none'
+);
+
+/**
+ * Orders.
+ * @deprecated Use new_orders.
+ */
+CREATE TABLE sales.orders (
+    order_id bigint DEFAULT nextval('sales.order_seq'),
+    product_no integer,
+    quantity integer NOT NULL DEFAULT (1 + 2) * 3,
+    status text DEFAULT CASE WHEN true THEN 'open' ELSE NULL END,
+    created_at timestamp DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (order_id),
+    UNIQUE (order_id, product_no),
+    FOREIGN KEY (product_no) REFERENCES sales.products (product_no)
+);
+
+CREATE TABLE empty_table ();
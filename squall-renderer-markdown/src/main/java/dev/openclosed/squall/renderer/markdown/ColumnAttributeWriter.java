@@ -21,9 +21,12 @@ import dev.openclosed.squall.api.sql.annotation.Deprecated;
 import dev.openclosed.squall.api.sql.spec.Column;
 import dev.openclosed.squall.api.sql.expression.Expression;
 import dev.openclosed.squall.api.sql.spec.ForeignKey;
+import dev.openclosed.squall.api.sql.spec.ForeignKeyReference;
 import dev.openclosed.squall.api.sql.spec.Table;
 
+import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 enum ColumnAttributeWriter implements AttributeWriter<Column> {
     ORDINAL(ALIGN_RIGHT) {
@@ -130,28 +133,57 @@ enum ColumnAttributeWriter implements AttributeWriter<Column> {
         String getValue(Column column, int rowNo, WriterContext context) {
             final String columnName = column.name();
             Table table = context.currentTable();
-            String value = table.foreignKeysContaining(columnName)
-                .map(fk -> foreignKeyToString(fk, columnName))
+            List<ForeignKey> foreignKeys = table.foreignKeysByColumn().get(columnName);
+            if (foreignKeys == null) {
+                return "-";
+            }
+            return foreignKeys.stream()
+                .map(fk -> foreignKeyToString(fk, columnName, context))
                 .distinct()
                 .collect(Collectors.joining("<br>"));
-            return value.isEmpty() ? "-" : value;
         }
 
-        private static String foreignKeyToString(ForeignKey foreignKey, String columnName) {
+        private static String foreignKeyToString(ForeignKey foreignKey, String columnName, WriterContext context) {
             String targetColumn = foreignKey.columnMapping().get(columnName);
             String fullTableName = foreignKey.fullTableName();
             return new StringBuilder()
                 .append(foreignKey.simpleTableName())
                 .append(" ([")
                 .append(targetColumn)
-                .append("](#")
-                .append(fullTableName)
-                .append('.')
-                .append(targetColumn)
+                .append("](")
+                .append(context.linkToColumn(fullTableName, targetColumn))
                 .append("))")
                 .toString();
         }
     },
+    REFERENCED_BY(ALIGN_LEFT) {
+        @Override
+        String getValue(Column column, int rowNo, WriterContext context) {
+            final String columnName = column.name();
+            Table table = context.currentTable();
+            String value = context.currentSpec().foreignKeysReferencing(table).stream()
+                .flatMap(ref -> referenceToStrings(ref, columnName, context))
+                .distinct()
+                .collect(Collectors.joining("<br>"));
+            return value.isEmpty() ? "-" : value;
+        }
+
+        private static Stream<String> referenceToStrings(
+            ForeignKeyReference reference, String columnName, WriterContext context) {
+            String fullTableName = reference.table().fullName();
+            String simpleTableName = reference.table().name();
+            return reference.foreignKey().columnMapping().entrySet().stream()
+                .filter(entry -> entry.getValue().equals(columnName))
+                .map(entry -> new StringBuilder()
+                    .append(simpleTableName)
+                    .append(" ([")
+                    .append(entry.getKey())
+                    .append("](")
+                    .append(context.linkToColumn(fullTableName, entry.getKey()))
+                    .append("))")
+                    .toString());
+        }
+    },
     DESCRIPTION(ALIGN_LEFT) {
         @Override
         public void writeValue(Column column, int rowNo, DocBuilder builder, WriterContext context) {
@@ -225,6 +257,7 @@ enum ColumnAttributeWriter implements AttributeWriter<Column> {
             case UNIQUE -> UNIQUE;
             case DEFAULT_VALUE -> DEFAULT_VALUE;
             case FOREIGN_KEY -> FOREIGN_KEY;
+            case REFERENCED_BY -> REFERENCED_BY;
             case DESCRIPTION -> DESCRIPTION;
         };
     }
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2023 The Squall Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.openclosed.squall.renderer.markdown;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import dev.openclosed.squall.api.renderer.DocumentSplit;
+import dev.openclosed.squall.api.renderer.RenderConfig;
+import dev.openclosed.squall.api.sql.spec.Component;
+import dev.openclosed.squall.api.sql.spec.DatabaseSpec;
+import dev.openclosed.squall.api.sql.spec.Schema;
+
+/**
+ * The layout of the files into which a document is written.
+ *
+ * <p>A document is written either into a single file, or into an index file
+ * and the shards linked from it, each of which contains a schema, a table, or a sequence.</p>
+ */
+final class DocumentLayout {
+
+    private static final String EXTENSION = ".md";
+    private static final Pattern UNSAFE_CHARS = Pattern.compile("[^\\p{L}\\p{N}_.-]");
+
+    private final String indexFile;
+    // the shards in the order of the document
+    private final List<Shard> shards;
+    private final Map<Component, String> shardFiles;
+    // the files containing the tables, keyed by the full names of the tables
+    private final Map<String, String> tableFiles;
+
+    private DocumentLayout(String indexFile, List<Shard> shards, Map<String, String> tableFiles) {
+        this.indexFile = indexFile;
+        this.shards = List.copyOf(shards);
+        this.shardFiles = new IdentityHashMap<>();
+        this.tableFiles = tableFiles;
+        for (var shard : shards) {
+            this.shardFiles.put(shard.component(), shard.file());
+        }
+    }
+
+    /**
+     * Creates a layout writing the whole document into a single file.
+     * @param basename the basename of the file.
+     * @return the layout created.
+     */
+    static DocumentLayout single(String basename) {
+        return new DocumentLayout(basename + EXTENSION, List.of(), Map.of());
+    }
+
+    /**
+     * Creates a layout of the specified spec.
+     * @param spec the spec to be written.
+     * @param config the configuration of the renderer.
+     * @return the layout created.
+     */
+    static DocumentLayout of(DatabaseSpec spec, RenderConfig config) {
+        if (config.split() == DocumentSplit.NONE) {
+            return single(config.basename());
+        }
+        var builder = new Builder(config);
+        for (var database : spec.databases()) {
+            config.order().reorder(database.schemas()).forEach(builder::addSchema);
+        }
+        return new DocumentLayout(config.basename() + EXTENSION, builder.shards, builder.tableFiles);
+    }
+
+    /**
+     * Returns the name of the index file, which is the only file if the document is not split.
+     * @return the name of the index file.
+     */
+    String indexFile() {
+        return indexFile;
+    }
+
+    /**
+     * Returns the shards written into their own files.
+     * @return the shards in the order of the document.
+     */
+    List<Shard> shards() {
+        return shards;
+    }
+
+    /**
+     * Returns the file of the shard.
+     * @param component the component which may be written into its own file.
+     * @return the name of the file, or {@code null} if the component is not a shard.
+     */
+    String shardFile(Component component) {
+        return shardFiles.get(component);
+    }
+
+    /**
+     * Returns the link to the column from the specified file.
+     * @param fullTableName the full name of the table containing the column.
+     * @param columnName the name of the column.
+     * @param currentFile the file where the link is written.
+     * @return the link to the anchor of the column.
+     */
+    String linkToColumn(String fullTableName, String columnName, String currentFile) {
+        String anchor = "#" + fullTableName + "." + columnName;
+        String file = tableFiles.get(fullTableName);
+        if (file == null || file.equals(currentFile)) {
+            return anchor;
+        }
+        return file + anchor;
+    }
+
+    /**
+     * A part of the document written into its own file.
+     * @param component the root component of the shard.
+     * @param file the name of the file.
+     */
+    record Shard(Component component, String file) {
+    }
+
+    private static final class Builder {
+
+        private final RenderConfig config;
+        private final List<Shard> shards = new ArrayList<>();
+        private final Map<String, String> tableFiles = new HashMap<>();
+        private final Set<String> usedFiles = new HashSet<>();
+
+        Builder(RenderConfig config) {
+            this.config = config;
+            this.usedFiles.add((config.basename() + EXTENSION).toLowerCase(Locale.ROOT));
+        }
+
+        void addSchema(Schema schema) {
+            if (config.split() == DocumentSplit.SCHEMA) {
+                String file = addShard(schema);
+                schema.tables().forEach(table -> tableFiles.put(table.fullName(), file));
+                return;
+            }
+            var show = config.show();
+            schema.children(config.order())
+                .filter(child -> show.contains(child.type()))
+                .forEach(child -> {
+                    String file = addShard(child);
+                    if (child.type() == Component.Type.TABLE) {
+                        tableFiles.put(child.fullName(), file);
+                    }
+                });
+        }
+
+        private String addShard(Component component) {
+            String file = uniqueFileName(component);
+            shards.add(new Shard(component, file));
+            return file;
+        }
+
+        // e.g. "spec.public.orders.md", where the leading dot of the unnamed database is removed.
+        private String uniqueFileName(Component component) {
+            String name = component.fullName();
+            if (name.startsWith(".")) {
+                name = name.substring(1);
+            }
+            String stem = config.basename() + "." + UNSAFE_CHARS.matcher(name).replaceAll("_");
+            String file = stem + EXTENSION;
+            // the names differing only in case collide on some file systems.
+            for (int i = 2; !usedFiles.add(file.toLowerCase(Locale.ROOT)); i++) {
+                file = stem + "-" + i + EXTENSION;
+            }
+            return file;
+        }
+    }
+}
@@ -16,6 +16,7 @@
 
 package dev.openclosed.squall.renderer.markdown;
 
+import dev.openclosed.squall.api.renderer.DocumentSplit;
 import dev.openclosed.squall.api.renderer.MessageBundle;
 import dev.openclosed.squall.api.renderer.RenderConfig;
 import dev.openclosed.squall.api.renderer.TextRenderer;
@@ -28,7 +29,14 @@ import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 class MarkdownRenderer implements TextRenderer {
 
@@ -45,9 +53,13 @@ class MarkdownRenderer implements TextRenderer {
         Objects.requireNonNull(spec);
         Objects.requireNonNull(dir);
         Files.createDirectories(dir);
-        Path path = dir.resolve(this.config.basename() + ".md");
-        try (Writer writer = Files.newBufferedWriter(path)) {
-            render(spec, writer);
+        if (this.config.split() == DocumentSplit.NONE) {
+            Path path = dir.resolve(this.config.basename() + ".md");
+            try (Writer writer = Files.newBufferedWriter(path)) {
+                render(spec, writer);
+            }
+        } else {
+            renderShards(spec, dir);
         }
         addAssetFiles(dir);
     }
@@ -55,6 +67,7 @@ class MarkdownRenderer implements TextRenderer {
     @Override
     public String renderToString(DatabaseSpec spec) {
         Objects.requireNonNull(spec);
+        // always rendered as a single document regardless of the split.
         try (var writer = new StringWriter()) {
             render(spec, writer);
             return writer.toString();
@@ -68,6 +81,57 @@ class MarkdownRenderer implements TextRenderer {
         writer.flush();
     }
 
+    // Writes the index and the shards concurrently, each with its own document writer.
+    private void renderShards(DatabaseSpec spec, Path dir) throws IOException {
+        var layout = DocumentLayout.of(spec, this.config);
+        List<Callable<Void>> tasks = new ArrayList<>();
+        tasks.add(() -> {
+            writeFile(dir, layout.indexFile(), writer -> writer.writeSpec(spec), layout);
+            return null;
+        });
+        for (var shard : layout.shards()) {
+            tasks.add(() -> {
+                writeFile(dir, shard.file(), writer -> writer.writeShard(spec, shard.component()), layout);
+                return null;
+            });
+        }
+
+        int threads = Math.min(tasks.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            } else if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void writeFile(Path dir, String file, DocumentWriting writing, DocumentLayout layout)
+        throws IOException {
+        try (Writer writer = Files.newBufferedWriter(dir.resolve(file))) {
+            writing.write(new SpecDocumentWriter(this.config, this.bundle, writer, layout, file));
+        }
+    }
+
+    /**
+     * Writing of a document by the document writer.
+     */
+    @FunctionalInterface
+    private interface DocumentWriting {
+        void write(SpecDocumentWriter writer) throws IOException;
+    }
+
     private void addAssetFiles(Path dir) throws IOException {
         Path imagesDir = dir.resolve("images");
         Files.createDirectories(imagesDir);
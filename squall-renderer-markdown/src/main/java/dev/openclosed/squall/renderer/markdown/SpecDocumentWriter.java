@@ -42,25 +42,40 @@ class SpecDocumentWriter implements SpecVisitor, WriterContext {
     private final DocBuilder builder;
 
     private final Set<Component.Type> show;
+    private final DocumentLayout layout;
+    private final String currentFile;
 
     private final HeadingNumberGenerator headingNumberGenerator;
     private final TabularComponentWriter<Column> columnWriter;
     private final TabularComponentWriter<Sequence> sequenceWriter;
 
     private int level;
+    private DatabaseSpec currentSpec;
     private Table currentTable;
     private int databaseCount;
+    // the root component of the shard being written, or null while writing the index.
+    private Component currentShard;
+    private boolean inList;
+    private boolean empty;
 
     private static final String[] HEADING_PREFIX = {
         "#", "##", "###", "####", "#####", "######", "#######"
     };
 
     SpecDocumentWriter(RenderConfig config, MessageBundle bundle, Appendable appendable) {
+        this(config, bundle, appendable, DocumentLayout.single(config.basename()), null);
+    }
+
+    SpecDocumentWriter(
+        RenderConfig config, MessageBundle bundle, Appendable appendable,
+        DocumentLayout layout, String currentFile) {
         this.config = config;
         this.bundle = bundle;
         this.builder = new DocBuilder(appendable);
 
         this.show = config.show();
+        this.layout = layout;
+        this.currentFile = (currentFile != null) ? currentFile : layout.indexFile();
 
         this.headingNumberGenerator = HeadingNumberGenerator.create(config.numbering());
 
@@ -75,8 +90,11 @@ class SpecDocumentWriter implements SpecVisitor, WriterContext {
 
     void writeSpec(DatabaseSpec spec) throws IOException {
         this.level = 0;
+        this.currentSpec = spec;
         this.currentTable = null;
         this.databaseCount = spec.databases().size();
+        this.currentShard = null;
+        this.empty = false;
         try {
             startSpec(spec);
             spec.walkSpec(config.order(), this);
@@ -86,6 +104,27 @@ class SpecDocumentWriter implements SpecVisitor, WriterContext {
         }
     }
 
+    /**
+     * Writes a shard of the document, whose root component is written at the top level.
+     * @param spec the spec containing the shard.
+     * @param shard the root component of the shard.
+     * @throws IOException if an I/O error has occurred.
+     */
+    void writeShard(DatabaseSpec spec, Component shard) throws IOException {
+        this.level = 0;
+        this.currentSpec = spec;
+        this.currentTable = null;
+        this.databaseCount = spec.databases().size();
+        this.currentShard = shard;
+        this.empty = true;
+        try {
+            shard.accept(this);
+            writeImageDefinitions();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
     // SpecVisitor
 
     @Override
@@ -110,6 +149,9 @@ class SpecDocumentWriter implements SpecVisitor, WriterContext {
 
     @Override
     public void visit(Schema schema) {
+        if (writeLinkToShard(schema)) {
+            return;
+        }
         if (!shouldRender(Component.Type.SCHEMA)) {
             visitChildren(schema);
             return;
@@ -127,7 +169,7 @@ class SpecDocumentWriter implements SpecVisitor, WriterContext {
 
     @Override
     public void visit(Sequence sequence) {
-        if (!shouldRender(Component.Type.SEQUENCE)) {
+        if (!shouldRender(Component.Type.SEQUENCE) || writeLinkToShard(sequence)) {
             return;
         }
 
@@ -141,7 +183,7 @@ class SpecDocumentWriter implements SpecVisitor, WriterContext {
 
     @Override
     public void visit(Table table) {
-        if (!shouldRender(Component.Type.TABLE)) {
+        if (!shouldRender(Component.Type.TABLE) || writeLinkToShard(table)) {
             return;
         }
 
@@ -179,11 +221,21 @@ class SpecDocumentWriter implements SpecVisitor, WriterContext {
         return this.bundle;
     }
 
+    @Override
+    public DatabaseSpec currentSpec() {
+        return this.currentSpec;
+    }
+
     @Override
     public Table currentTable() {
         return this.currentTable;
     }
 
+    @Override
+    public String linkToColumn(String fullTableName, String columnName) {
+        return layout.linkToColumn(fullTableName, columnName, currentFile);
+    }
+
     //
 
     private void startSpec(DatabaseSpec spec) {
@@ -214,10 +266,17 @@ class SpecDocumentWriter implements SpecVisitor, WriterContext {
     }
 
     private void writeHeading(Component component) {
-        builder
-            .appendNewLine()
-            .append(HEADING_PREFIX[level])
-            .append(this.headingNumberGenerator.generate());
+        this.inList = false;
+        if (this.empty) {
+            this.empty = false;
+        } else {
+            builder.appendNewLine();
+        }
+        builder.append(HEADING_PREFIX[level]);
+        // the root of a shard is not numbered.
+        if (level > 0) {
+            builder.append(this.headingNumberGenerator.generate());
+        }
 
         writeHeadingText(component);
 
@@ -262,7 +321,29 @@ class SpecDocumentWriter implements SpecVisitor, WriterContext {
         }
     }
 
+    // Writes a list item linking to the shard instead of the component itself.
+    private boolean writeLinkToShard(Component component) {
+        String file = layout.shardFile(component);
+        if (file == null || component == currentShard) {
+            return false;
+        }
+        if (!inList) {
+            builder.appendNewLine();
+            inList = true;
+        }
+        String name = component.label().orElse(component.qualifiedName());
+        builder.append("- [");
+        if (component.isDeprecated()) {
+            builder.append("~~").append(name).append("~~");
+        } else {
+            builder.append(name);
+        }
+        builder.append("](").append(file).append(')').appendNewLine();
+        return true;
+    }
+
     private void writeDescription(Component component) {
+        this.inList = false;
         if (component.isDeprecated()) {
             writeDeprecationNotice(component);
         }
@@ -17,6 +17,7 @@
 package dev.openclosed.squall.renderer.markdown;
 
 import dev.openclosed.squall.api.renderer.MessageBundle;
+import dev.openclosed.squall.api.sql.spec.DatabaseSpec;
 import dev.openclosed.squall.api.sql.spec.Table;
 
 /**
@@ -26,5 +27,15 @@ interface WriterContext {
 
     MessageBundle bundle();
 
+    DatabaseSpec currentSpec();
+
     Table currentTable();
+
+    /**
+     * Returns the link to the column, which may be written in another file.
+     * @param fullTableName the full name of the table containing the column.
+     * @param columnName the name of the column.
+     * @return the link to the anchor of the column.
+     */
+    String linkToColumn(String fullTableName, String columnName);
 }
@@ -31,6 +31,7 @@ import org.apache.commons.io.file.PathUtils;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.BufferedReader;
@@ -40,6 +41,7 @@ import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.stream.Collectors;
 
 public class MarkdownRendererTest {
@@ -71,6 +73,7 @@ public class MarkdownRendererTest {
         "foreign-key",
         "foreign-key-in-qualified-table",
         "hide-database-and-schema",
+        "referenced-by",
         "schema",
         "sequence-qualified",
         "schema-with-comment",
@@ -81,6 +84,30 @@ public class MarkdownRendererTest {
         testWithDialect(title, Dialect.POSTGRESQL);
     }
 
+    @ParameterizedTest
+    @CsvSource({
+        "split-by-schema, spec.md spec.public.md spec.sales.md",
+        "split-by-table, spec.md spec.public.products.md spec.sales.order_seq.md spec.sales.orders.md"
+    })
+    public void testSplitPostgresql(String title, String files) throws IOException {
+        var dialect = Dialect.POSTGRESQL;
+        var spec = parseSql(title, dialect);
+        var config = loadRenderConfig(dialect, title);
+        var renderer = renderFactory.createRenderer(config, config.locale());
+        var dir = prepareDirectory(dialect, title);
+        renderer.render(spec, dir);
+
+        List<String> expectedFiles = List.of(files.split(" "));
+        try (var stream = Files.list(dir)) {
+            assertThat(stream.map(path -> path.getFileName().toString()).filter(name -> name.endsWith(".md")))
+                .containsExactlyInAnyOrderElementsOf(expectedFiles);
+        }
+        for (String file : expectedFiles) {
+            var expected = readTextResource(dialect.name(), title, file);
+            assertThat(readRenderedText(dir.resolve(file))).as(file).isEqualTo(expected);
+        }
+    }
+
     void testWithDialect(String title, Dialect dialect) throws IOException {
         var spec = parseSql(title, dialect);
         var config = loadRenderConfig(dialect, title);
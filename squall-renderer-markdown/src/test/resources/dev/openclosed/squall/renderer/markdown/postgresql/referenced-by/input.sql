@@ -0,0 +1,17 @@
+CREATE TABLE products (
+  product_no integer PRIMARY KEY,
+  name text,
+  price numeric
+);
+
+CREATE TABLE orders (
+    order_id integer PRIMARY KEY,
+    product_no integer REFERENCES products (product_no),
+    quantity integer
+);
+
+CREATE TABLE returns (
+    return_id integer PRIMARY KEY,
+    order_id integer REFERENCES orders (order_id),
+    product_no integer REFERENCES products (product_no)
+);